@@ -0,0 +1,302 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link CommandIndexProcessor} generates {@code CommandIndex} implementation for each package containing {@code @Command} classes.
+ * Generated classes are listed in {@code META-INF/services/cloud.grabsky.commands.CommandIndex}, which makes them discoverable by {@code RootCommandManager#registerCommands()}.
+ * <p>
+ * Generated code instantiates commands and assigns {@code @Dependency} fields directly, hence indexed commands must have a non-private empty constructor
+ * and their {@code @Dependency} fields must be neither {@code private} nor {@code final}.
+ */
+public final class CommandIndexProcessor extends AbstractProcessor {
+
+    private static final String COMMAND_ANNOTATION = "cloud.grabsky.commands.annotation.Command";
+    private static final String DEPENDENCY_ANNOTATION = "cloud.grabsky.commands.annotation.Dependency";
+    private static final String ROOT_COMMAND = "cloud.grabsky.commands.RootCommand";
+    private static final String COMMAND_INDEX = "cloud.grabsky.commands.CommandIndex";
+
+    private static final String GENERATED_CLASS_NAME = "GeneratedCommandIndex";
+
+    private Elements elements;
+    private Types types;
+    private Filer filer;
+    private Messager messager;
+
+    // Packages for which CommandIndex has been generated, in order of generation.
+    private final Set<String> generated = new LinkedHashSet<>();
+
+    @Override
+    public synchronized void init(final ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(COMMAND_ANNOTATION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment round) {
+        if (round.processingOver() == true) {
+            this.writeServiceFile();
+            return false;
+        }
+        final TypeElement commandAnnotation = elements.getTypeElement(COMMAND_ANNOTATION);
+        final TypeElement rootCommand = elements.getTypeElement(ROOT_COMMAND);
+        // Skipping when library is not on the classpath. Nothing can be annotated with @Command anyway.
+        if (commandAnnotation == null || rootCommand == null)
+            return false;
+        // Grouping annotated classes by their package, so generated code can access package-private members.
+        final Map<String, List<String>> entries = new LinkedHashMap<>();
+        // ...
+        for (final Element element : round.getElementsAnnotatedWith(commandAnnotation)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "@Command can only be used on classes.", element);
+                continue;
+            }
+            final TypeElement type = (TypeElement) element;
+            // Skipping invalid classes. Errors are reported by the method.
+            if (this.validate(type, rootCommand) == false)
+                continue;
+            final String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+            // Reporting an error if index for this package has been generated in one of previous rounds.
+            if (generated.contains(packageName) == true) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "CommandIndex for package '" + packageName + "' has already been generated in previous round.", type);
+                continue;
+            }
+            entries.computeIfAbsent(packageName, (___) -> new ArrayList<>()).add(this.createEntry(type, commandAnnotation));
+        }
+        // Generating CommandIndex for each package.
+        entries.forEach(this::writeIndex);
+        // ...
+        return false;
+    }
+
+    // Returns true if specified class can be instantiated and injected from generated code. Otherwise reports an error and returns false.
+    private boolean validate(final TypeElement type, final TypeElement rootCommand) {
+        boolean valid = true;
+        // Checking whether class extends RootCommand.
+        if (types.isSubtype(types.erasure(type.asType()), types.erasure(rootCommand.asType())) == false) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "@Command class must extend " + ROOT_COMMAND + ".", type);
+            valid = false;
+        }
+        // Checking whether class can be instantiated.
+        if (type.getModifiers().contains(Modifier.ABSTRACT) == true) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "@Command class must not be abstract.", type);
+            valid = false;
+        }
+        // Checking whether class and all enclosing classes are accessible from the package.
+        for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE) == true) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "@Command class must not be private or enclosed in a private class.", type);
+                valid = false;
+                break;
+            }
+            if (current.getEnclosingElement() instanceof TypeElement && current.getModifiers().contains(Modifier.STATIC) == false) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "@Command class must not be an inner (non-static) class.", type);
+                valid = false;
+                break;
+            }
+        }
+        // Checking for presence of non-private empty constructor. Implicit default constructor is also included.
+        final boolean hasConstructor = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty() == true && constructor.getModifiers().contains(Modifier.PRIVATE) == false);
+        // ...
+        if (hasConstructor == false) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "@Command class must have a non-private empty constructor.", type);
+            valid = false;
+        }
+        // Checking whether @Dependency fields can be assigned.
+        for (final VariableElement field : this.getDependencyFields(type)) {
+            if (field.getModifiers().contains(Modifier.PRIVATE) == true || field.getModifiers().contains(Modifier.FINAL) == true) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "@Dependency field of an indexed command must be neither private nor final.", field);
+                valid = false;
+            }
+        }
+        // ...
+        return valid;
+    }
+
+    // Returns declared fields annotated with @Dependency.
+    private List<VariableElement> getDependencyFields(final TypeElement type) {
+        final List<VariableElement> fields = new ArrayList<>();
+        // ...
+        for (final VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements()))
+            for (final AnnotationMirror annotation : field.getAnnotationMirrors())
+                if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(DEPENDENCY_ANNOTATION) == true)
+                    fields.add(field);
+        // ...
+        return fields;
+    }
+
+    // Returns source code of CommandIndex.Entry constructor call for specified class.
+    private String createEntry(final TypeElement type, final TypeElement commandAnnotation) {
+        final Map<String, Object> values = this.getAnnotationValues(type, commandAnnotation);
+        final String className = type.getQualifiedName().toString();
+        // Collecting aliases.
+        final List<String> aliases = new ArrayList<>();
+        // ...
+        for (final Object alias : (List<?>) values.get("aliases"))
+            aliases.add(elements.getConstantExpression(((AnnotationValue) alias).getValue()));
+        // ...
+        final StringBuilder builder = new StringBuilder();
+        builder.append("            new " + COMMAND_INDEX + ".Entry(\n");
+        builder.append("                    ").append(className).append(".class,\n");
+        builder.append("                    ").append(elements.getConstantExpression(values.get("name"))).append(",\n");
+        builder.append("                    java.util.List.of(").append(String.join(", ", aliases)).append("),\n");
+        builder.append("                    ").append(elements.getConstantExpression(values.get("permission"))).append(",\n");
+        builder.append("                    ").append(elements.getConstantExpression(values.get("usage"))).append(",\n");
+        builder.append("                    ").append(elements.getConstantExpression(values.get("description"))).append(",\n");
+        builder.append("                    ").append(values.get("async")).append(",\n");
+        builder.append("                    ").append(values.get("timeout")).append("L,\n");
+        builder.append("                    ").append(values.get("asyncCompletions")).append(",\n");
+        // Generating types of dependencies, so they can be validated before command is created.
+        final List<VariableElement> fields = this.getDependencyFields(type);
+        final List<String> dependencies = new ArrayList<>();
+        // ...
+        for (final VariableElement field : fields)
+            dependencies.add("java.util.Map.entry(" + elements.getConstantExpression(field.getSimpleName().toString()) + ", " + types.erasure(field.asType()) + ".class)");
+        // ...
+        builder.append("                    java.util.Map.ofEntries(").append(String.join(", ", dependencies)).append("),\n");
+        builder.append("                    ").append(className).append("::new,\n");
+        // Generating injector. Dependencies are resolved in order of declaration, same as with reflection-based registration.
+        if (fields.isEmpty() == true) {
+            builder.append("                    (command, resolver) -> { /* NO DEPENDENCIES */ }\n");
+        } else {
+            builder.append("                    (command, resolver) -> {\n");
+            builder.append("                        final ").append(className).append(" target = (").append(className).append(") command;\n");
+            // ...
+            for (final VariableElement field : fields) {
+                final String fieldName = field.getSimpleName().toString();
+                builder.append("                        target.").append(fieldName).append(" = resolver.resolve(target, ")
+                        .append(elements.getConstantExpression(fieldName)).append(", ")
+                        .append(types.erasure(field.asType())).append(".class);\n");
+            }
+            builder.append("                    }\n");
+        }
+        builder.append("            )");
+        // ...
+        return builder.toString();
+    }
+
+    // Returns values of @Command annotation present on specified class, including defaults.
+    private Map<String, Object> getAnnotationValues(final TypeElement type, final TypeElement commandAnnotation) {
+        final Map<String, Object> values = new LinkedHashMap<>();
+        // ...
+        for (final AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            if (types.isSameType(annotation.getAnnotationType(), commandAnnotation.asType()) == false)
+                continue;
+            for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements.getElementValuesWithDefaults(annotation).entrySet())
+                values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+        }
+        // ...
+        return values;
+    }
+
+    // Writes CommandIndex implementation containing specified entries.
+    private void writeIndex(final String packageName, final List<String> entries) {
+        final String qualifiedName = (packageName.isEmpty() == true) ? GENERATED_CLASS_NAME : packageName + "." + GENERATED_CLASS_NAME;
+        final PackageElement packageElement = elements.getPackageElement(packageName);
+        // ...
+        try (final Writer writer = filer.createSourceFile(qualifiedName, packageElement).openWriter()) {
+            if (packageName.isEmpty() == false)
+                writer.write("package " + packageName + ";\n\n");
+            writer.write("/**\n * Generated by " + CommandIndexProcessor.class.getName() + ". Do not edit.\n */\n");
+            writer.write("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+            writer.write("public final class " + GENERATED_CLASS_NAME + " implements " + COMMAND_INDEX + " {\n\n");
+            writer.write("    private static final java.util.List<Entry> ENTRIES = java.util.List.of(\n");
+            writer.write(String.join(",\n", entries));
+            writer.write("\n    );\n\n");
+            writer.write("    @Override\n");
+            writer.write("    public java.util.List<Entry> getEntries() {\n");
+            writer.write("        return ENTRIES;\n");
+            writer.write("    }\n\n");
+            writer.write("}\n");
+        } catch (final IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Could not write " + qualifiedName + ": " + e.getMessage());
+            return;
+        }
+        generated.add(packageName);
+    }
+
+    // Writes service file listing all generated CommandIndex implementations.
+    private void writeServiceFile() {
+        if (generated.isEmpty() == true)
+            return;
+        final String path = "META-INF/services/" + COMMAND_INDEX;
+        // Service file is written once, after all rounds are processed.
+        try {
+            final FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", path);
+            try (final Writer writer = file.openWriter()) {
+                for (final String packageName : generated) {
+                    final String qualifiedName = (packageName.isEmpty() == true) ? GENERATED_CLASS_NAME : packageName + "." + GENERATED_CLASS_NAME;
+                    writer.write(qualifiedName + "\n");
+                }
+            }
+        } catch (final IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Could not write " + path + ": " + e.getMessage());
+        }
+    }
+
+}
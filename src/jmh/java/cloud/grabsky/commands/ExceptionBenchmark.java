@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands;
+
+import cloud.grabsky.commands.exception.MissingInputException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares throwing stackless {@link MissingInputException} (both new and shared instance) with a regular exception that captures stack trace.
+ * Exceptions are thrown from a configurable stack depth, as cost of capturing stack trace grows with it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1) @Measurement(iterations = 5, time = 1) @Fork(1)
+public class ExceptionBenchmark {
+
+    @Param({ "10", "50" })
+    public int depth;
+
+    @Benchmark
+    public void stackless_shared(final Blackhole blackhole) {
+        try {
+            throwShared(depth);
+        } catch (final MissingInputException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void stackless_new(final Blackhole blackhole) {
+        try {
+            throwStackless(depth);
+        } catch (final MissingInputException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void regular(final Blackhole blackhole) {
+        try {
+            throwRegular(depth);
+        } catch (final IllegalStateException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    private static void throwShared(final int depth) throws MissingInputException {
+        if (depth == 0)
+            throw MissingInputException.shared();
+        // ...
+        throwShared(depth - 1);
+    }
+
+    private static void throwStackless(final int depth) throws MissingInputException {
+        if (depth == 0)
+            throw new MissingInputException();
+        // ...
+        throwStackless(depth - 1);
+    }
+
+    private static void throwRegular(final int depth) {
+        if (depth == 0)
+            throw new IllegalStateException();
+        // ...
+        throwRegular(depth - 1);
+    }
+
+}
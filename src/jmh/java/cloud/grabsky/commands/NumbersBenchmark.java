@@ -0,0 +1,231 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands;
+
+import cloud.grabsky.commands.argument.DoubleArgument;
+import cloud.grabsky.commands.argument.IntegerArgument;
+import cloud.grabsky.commands.argument.LongArgument;
+import cloud.grabsky.commands.component.ArgumentParser;
+import cloud.grabsky.commands.util.Numbers;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares numeric argument parsing before and after allocation-free {@link Numbers} was introduced.
+ * <ul>
+ *     <li>{@code baseline_*} benchmarks reproduce the previous parsers, which range-checked every input using three {@link BigDecimal} instances.</li>
+ *     <li>{@code parser_*} benchmarks call {@link ArgumentParser#parse} of current {@link IntegerArgument}, {@link LongArgument} and {@link DoubleArgument}.</li>
+ *     <li>{@code queue_*} benchmarks call primitive accessors of {@link ArgumentQueue}, which skip boxing of the result.</li>
+ *     <li>{@code numbers_*} and remaining benchmarks measure the parsing alone.</li>
+ * </ul>
+ * Integral and decimal inputs are kept separate, so each benchmark is measured only on inputs its fast path is meant to handle.
+ */
+@BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1) @Measurement(iterations = 5, time = 1) @Fork(1)
+public class NumbersBenchmark {
+
+    private static final int INT_MIN = -1_000_000_000;
+    private static final int INT_MAX = 1_000_000_000;
+
+    private static final long LONG_MIN = -1_000_000_000_000L;
+    private static final long LONG_MAX = 1_000_000_000_000L;
+
+    private static final double DOUBLE_MIN = -1_000_000_000.0D;
+    private static final double DOUBLE_MAX = 1_000_000_000.0D;
+
+    private static final ArgumentParser<Integer> INT_PARSER = IntegerArgument.ofRange(INT_MIN, INT_MAX);
+    private static final ArgumentParser<Long> LONG_PARSER = LongArgument.ofRange(LONG_MIN, LONG_MAX);
+    private static final ArgumentParser<Double> DOUBLE_PARSER = DoubleArgument.ofRange(DOUBLE_MIN, DOUBLE_MAX);
+
+    /**
+     * Input holding integral numbers.
+     */
+    @State(Scope.Thread)
+    public static class IntegralInput extends Input {
+
+        @Param({ "7", "-1250", "987654321" })
+        public String value;
+
+        @Override
+        protected @NotNull String value() {
+            return value;
+        }
+
+    }
+
+    /**
+     * Input holding decimal numbers.
+     */
+    @State(Scope.Thread)
+    public static class DecimalInput extends Input {
+
+        @Param({ "3.5", "-128.0625", "12345.678901" })
+        public String value;
+
+        @Override
+        protected @NotNull String value() {
+            return value;
+        }
+
+    }
+
+    /* INTEGRAL */
+
+    @Benchmark
+    public int baseline_int(final @NotNull IntegralInput input) {
+        final BigDecimal num = new BigDecimal(input.next());
+        // ...
+        if (BigDecimal.valueOf(INT_MIN).compareTo(num) > 0 || BigDecimal.valueOf(INT_MAX).compareTo(num) < 0)
+            throw new IllegalStateException();
+        // ...
+        return num.intValue();
+    }
+
+    @Benchmark
+    public Integer parser_int(final @NotNull IntegralInput input) {
+        return INT_PARSER.parse(null, input.queue()); // Numeric parsers do not access the context.
+    }
+
+    @Benchmark
+    public int queue_next_int(final @NotNull IntegralInput input) {
+        return input.queue().nextInt(INT_MIN, INT_MAX);
+    }
+
+    @Benchmark
+    public long baseline_long(final @NotNull IntegralInput input) {
+        final BigDecimal num = new BigDecimal(input.next());
+        // ...
+        if (BigDecimal.valueOf(LONG_MIN).compareTo(num) > 0 || BigDecimal.valueOf(LONG_MAX).compareTo(num) < 0)
+            throw new IllegalStateException();
+        // ...
+        return num.longValue();
+    }
+
+    @Benchmark
+    public Long parser_long(final @NotNull IntegralInput input) {
+        return LONG_PARSER.parse(null, input.queue()); // Numeric parsers do not access the context.
+    }
+
+    @Benchmark
+    public long queue_next_long(final @NotNull IntegralInput input) {
+        return input.queue().nextLong(LONG_MIN, LONG_MAX);
+    }
+
+    @Benchmark
+    public long numbers_parse_long(final @NotNull IntegralInput input) {
+        return Numbers.parseLong(input.next());
+    }
+
+    @Benchmark
+    public long long_parse_long(final @NotNull IntegralInput input) {
+        return Long.parseLong(input.next());
+    }
+
+    /* DECIMAL */
+
+    @Benchmark
+    public double baseline_double(final @NotNull DecimalInput input) {
+        final BigDecimal num = new BigDecimal(input.next());
+        // ...
+        if (BigDecimal.valueOf(DOUBLE_MIN).compareTo(num) > 0 || BigDecimal.valueOf(DOUBLE_MAX).compareTo(num) < 0)
+            throw new IllegalStateException();
+        // ...
+        return num.doubleValue();
+    }
+
+    @Benchmark
+    public Double parser_double(final @NotNull DecimalInput input) {
+        return DOUBLE_PARSER.parse(null, input.queue()); // Numeric parsers do not access the context.
+    }
+
+    @Benchmark
+    public double queue_next_double(final @NotNull DecimalInput input) {
+        return input.queue().nextDouble(DOUBLE_MIN, DOUBLE_MAX);
+    }
+
+    @Benchmark
+    public double numbers_parse_double(final @NotNull DecimalInput input) {
+        return Numbers.parseDouble(input.next());
+    }
+
+    @Benchmark
+    public float numbers_parse_float(final @NotNull DecimalInput input) {
+        return Numbers.parseFloat(input.next());
+    }
+
+    @Benchmark
+    public double big_decimal_double_value(final @NotNull DecimalInput input) {
+        return new BigDecimal(input.next()).doubleValue();
+    }
+
+    @Benchmark
+    public double double_parse_double(final @NotNull DecimalInput input) {
+        return Double.parseDouble(input.next());
+    }
+
+    /**
+     * Holds single-element {@link ArgumentQueue} re-used between invocations.
+     */
+    public abstract static class Input {
+
+        private String[] arguments;
+        private ArgumentQueue queue;
+
+        protected abstract @NotNull String value();
+
+        @Setup(Level.Trial)
+        public void setup() {
+            this.arguments = new String[] { this.value() };
+            // Numeric parsers do not access the context, and queue that is not reusable never does either.
+            this.queue = new ArgumentQueue(null, arguments);
+        }
+
+        // Returns the input. Read through the array, so JIT cannot treat it as a constant.
+        /* PACKAGE PRIVATE */ @NotNull String next() {
+            return arguments[0];
+        }
+
+        // Returns queue rewound to the beginning.
+        /* PACKAGE PRIVATE */ @NotNull ArgumentQueue queue() {
+            queue.reset(arguments);
+            return queue;
+        }
+
+    }
+
+}
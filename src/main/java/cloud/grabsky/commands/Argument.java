@@ -27,6 +27,7 @@ import cloud.grabsky.commands.component.ArgumentParser;
 import cloud.grabsky.commands.component.ExceptionHandler;
 import cloud.grabsky.commands.component.NullableElement;
 import cloud.grabsky.commands.component.OptionalElement;
+import cloud.grabsky.commands.component.ParseResult;
 import cloud.grabsky.commands.component.RequiredElement;
 import cloud.grabsky.commands.exception.ArgumentParseException;
 import cloud.grabsky.commands.exception.CommandLogicException;
@@ -42,17 +43,26 @@ import org.jetbrains.annotations.Nullable;
 public final class Argument<T> implements RequiredElement<T>, OptionalElement<T>, NullableElement<T> {
 
     @Getter(AccessLevel.PUBLIC)
-    private final Class<T> type;
+    private Class<T> type;
 
     private final RootCommandContext context;
-    private final ArgumentParser<T> parser;
+    private ArgumentParser<T> parser;
     private final ArgumentQueue queue;
 
     public Argument(final @NotNull Class<T> type, final @NotNull RootCommandContext context, final @Nullable ArgumentParser<T> parser, final @NotNull ArgumentQueue queue) {
-        this.type = type;
         this.context = context;
-        this.parser = (parser == null) ? context.getManager().getArgumentParser(type) : parser;
         this.queue = queue;
+        this.reset(type, parser);
+    }
+
+    /**
+     * Re-initializes this {@link Argument Argument&lt;T&gt;} with specified type and parser. Used by {@link ArgumentQueue} to re-use shared instance.
+     */
+    /* package private */ @NotNull Argument<T> reset(final @NotNull Class<T> type, final @Nullable ArgumentParser<T> parser) {
+        this.type = type;
+        this.parser = (parser == null) ? context.getManager().getArgumentParser(type) : parser;
+        // ...
+        return this;
     }
 
     @Override
@@ -71,7 +81,18 @@ public final class Argument<T> implements RequiredElement<T>, OptionalElement<T>
 
     @Override
     public @NotNull T asRequired() throws ArgumentParseException, MissingInputException {
-        return parser.parse(context, queue);
+        final @Nullable ArgumentParseEvent event = ArgumentParseEvent.start();
+        // ...
+        boolean success = false;
+        // ...
+        try {
+            final T value = parser.parse(context, queue);
+            success = true;
+            return value;
+        } finally {
+            if (event != null)
+                event.complete(type, parser.getClass(), success);
+        }
     }
 
     @Override
@@ -81,20 +102,28 @@ public final class Argument<T> implements RequiredElement<T>, OptionalElement<T>
 
     @Override
     public T asOptional(final T def) throws ArgumentParseException {
-        try {
-            return this.asRequired();
-        } catch (final MissingInputException cause) {
-            return def;
-        }
+        final ParseResult<T> result = this.tryParse();
+        // Re-throwing failures as only missing input is considered optional.
+        if (result.isFailure() == true)
+            throw result.getFailure();
+        // ...
+        return result.orElse(def);
     }
 
     @Override
     public @Nullable T asNullable() {
-        try {
-            return this.asRequired();
-        } catch (final ArgumentParseException | MissingInputException cause) {
-            return null;
-        }
+        return this.tryParse().orElse(null);
+    }
+
+    private @NotNull ParseResult<T> tryParse() {
+        final @Nullable ArgumentParseEvent event = ArgumentParseEvent.start();
+        // ...
+        final ParseResult<T> result = parser.tryParse(context, queue);
+        // ...
+        if (event != null)
+            event.complete(type, parser.getClass(), result.isFailure() == false);
+        // ...
+        return result;
     }
 
 }
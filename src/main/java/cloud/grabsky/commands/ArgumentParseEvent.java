@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * JFR event recorded for each argument parsed through {@link Argument Argument&lt;T&gt;} or one of primitive {@link ArgumentQueue} accessors. Fields are populated only when event is going to be committed.
+ */
+@Name("cloud.grabsky.commands.ArgumentParse")
+@Label("Argument Parse")
+@Description("Parsing of a single command argument.")
+@Category({ "Commands" })
+@StackTrace(false)
+/* PACKAGE PRIVATE */ final class ArgumentParseEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(ArgumentParseEvent.class);
+
+    /**
+     * Returns new, already began {@link ArgumentParseEvent}, or {@code null} if event is not enabled. Nothing is allocated in the latter case.
+     */
+    static @Nullable ArgumentParseEvent start() {
+        if (TYPE.isEnabled() == false)
+            return null;
+        // ...
+        final ArgumentParseEvent event = new ArgumentParseEvent();
+        event.begin();
+        // ...
+        return event;
+    }
+
+    @Label("Type")
+    Class<?> type;
+
+    @Label("Parser")
+    Class<?> parser;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * Ends this event and commits it, if it should be committed.
+     */
+    void complete(final @NotNull Class<?> type, final @NotNull Class<?> parser, final boolean success) {
+        this.end();
+        // ...
+        if (this.shouldCommit() == true) {
+            this.type = type;
+            this.parser = parser;
+            this.success = success;
+            this.commit();
+        }
+    }
+
+}
@@ -23,17 +23,27 @@
  */
 package cloud.grabsky.commands;
 
+import cloud.grabsky.commands.argument.BooleanArgument;
+import cloud.grabsky.commands.argument.DoubleArgument;
+import cloud.grabsky.commands.argument.IntegerArgument;
+import cloud.grabsky.commands.argument.LongArgument;
 import cloud.grabsky.commands.component.ArgumentParser;
+import cloud.grabsky.commands.component.BooleanArgumentParser;
+import cloud.grabsky.commands.component.DoubleArgumentParser;
+import cloud.grabsky.commands.component.IntArgumentParser;
+import cloud.grabsky.commands.component.LongArgumentParser;
+import cloud.grabsky.commands.exception.ArgumentParseException;
 import cloud.grabsky.commands.exception.MissingInputException;
+import cloud.grabsky.commands.exception.NumberParseException;
 import lombok.AccessLevel;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.List;
-import java.util.ListIterator;
-import java.util.NoSuchElementException;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableList;
 import static org.jetbrains.annotations.ApiStatus.Experimental;
 
@@ -48,43 +58,318 @@ public final class ArgumentQueue {
     @Getter(AccessLevel.PUBLIC)
     private final @NotNull RootCommandContext context;
 
-    @Getter(AccessLevel.PUBLIC)
-    private final @NotNull @Unmodifiable List<String> arguments;
+    // NOTE: Arguments are read directly from the array supplied by the server. It should never be modified.
+    private String[] arguments;
+
+    // NOTE: Cursor should not be directly exposed to the API.
+    private int cursor;
+
+    // NOTE: List view is created lazily as most commands never access it.
+    private @Nullable List<String> view;
 
-    // NOTE: Iterator should not be directly exposed to the API.
-    private final @NotNull ListIterator<String> iterator;
+    // NOTE: Shared Argument<T> instance, present only when queue is reused between invocations.
+    private final @Nullable Argument<?> flyweight;
+
+    /* package private */ ArgumentQueue(final @NotNull RootCommandContext context, final @NotNull String[] arguments) {
+        this(context, arguments, false);
+    }
 
-    /* package private */ ArgumentQueue(final @NotNull RootCommandContext context, final @NotNull List<String> arguments) {
+    /* package private */ ArgumentQueue(final @NotNull RootCommandContext context, final @NotNull String[] arguments, final boolean reusable) {
         this.context = context;
-        this.arguments = unmodifiableList(arguments);
-        this.iterator = arguments.listIterator();
+        this.arguments = arguments;
+        this.cursor = 0;
+        this.flyweight = (reusable == true) ? new Argument<>(String.class, context, null, this) : null;
+    }
+
+    /**
+     * Re-initializes this {@link ArgumentQueue} with specified arguments.
+     */
+    /* package private */ void reset(final @NotNull String[] arguments) {
+        this.arguments = arguments;
+        this.cursor = 0;
+        this.view = null;
+    }
+
+    /**
+     * Returns next {@link String} at the beginning of this {@link ArgumentQueue}, or {@code null} if no more elements are present.
+     */
+    public @Nullable String pollString() {
+        return (cursor < arguments.length) ? arguments[cursor++] : null;
+    }
+
+    /**
+     * Returns next {@link String} without advancing this {@link ArgumentQueue}, or {@code null} if no more elements are present.
+     */
+    /* package private */ @Nullable String peekString() {
+        return (cursor < arguments.length) ? arguments[cursor] : null;
+    }
+
+    /**
+     * Moves this {@link ArgumentQueue} back to the first argument.
+     */
+    /* package private */ void rewind() {
+        this.cursor = 0;
+    }
+
+    /**
+     * Returns an unmodifiable view of all arguments contained within this {@link ArgumentQueue}.
+     */
+    public @NotNull @Unmodifiable List<String> getArguments() {
+        if (view == null)
+            view = unmodifiableList(asList(arguments));
+        // ...
+        return view;
     }
 
     /**
      * Returns {@code true} if at least one more element is present.
      */
     public boolean hasNext() {
-        return iterator.hasNext() == true;
+        return cursor < arguments.length;
     }
 
     /**
      * Returns next index of this {@link ArgumentQueue}.
      */
     public int getNextIndex() {
-        return iterator.nextIndex();
+        return cursor;
     }
 
     /**
      * Returns next {@link String} at the beginning of this {@link ArgumentQueue}.
      */
     public @NotNull String nextString() throws MissingInputException {
+        if (cursor < arguments.length)
+            return arguments[cursor++];
+        // ...
+        throw MissingInputException.shared();
+    }
+
+    /**
+     * Returns next element at the beginning of this {@link ArgumentQueue} as {@code int}, parsed using {@link IntegerArgument}.
+     * Unlike {@link #next(Class)}, value is not boxed and no parser lookup is performed, meaning parser registered for {@link Integer} is not used.
+     */
+    public int nextInt() throws NumberParseException, MissingInputException {
+        return this.nextInt(IntegerArgument.DEFAULT_RANGE.getMin(), IntegerArgument.DEFAULT_RANGE.getMax());
+    }
+
+    /**
+     * Returns next element at the beginning of this {@link ArgumentQueue} as {@code int} within specified range, parsed using {@link IntegerArgument}.
+     */
+    public int nextInt(final int min, final int max) throws NumberParseException, MissingInputException {
+        final @Nullable ArgumentParseEvent event = ArgumentParseEvent.start();
+        // ...
+        boolean success = false;
+        // ...
+        try {
+            final int value = IntegerArgument.parseInt(this.nextString(), min, max);
+            success = true;
+            return value;
+        } finally {
+            if (event != null)
+                event.complete(int.class, IntegerArgument.class, success);
+        }
+    }
+
+    /**
+     * Returns next element at the beginning of this {@link ArgumentQueue} as {@code int}, parsed using specified {@link IntArgumentParser}.
+     */
+    public int nextInt(final @NotNull IntArgumentParser parser) throws ArgumentParseException, MissingInputException {
+        final @Nullable ArgumentParseEvent event = ArgumentParseEvent.start();
+        // ...
+        boolean success = false;
+        // ...
+        try {
+            final int value = parser.parseInt(context, this);
+            success = true;
+            return value;
+        } finally {
+            if (event != null)
+                event.complete(int.class, parser.getClass(), success);
+        }
+    }
+
+    /**
+     * Returns next element at the beginning of this {@link ArgumentQueue} as {@code int}, or specified default value if no more elements are present.
+     * Invalid input is still reported by throwing an exception.
+     */
+    public int nextIntOrElse(final int def) throws NumberParseException {
+        return (cursor < arguments.length) ? this.nextInt() : def;
+    }
+
+    /**
+     * Returns next element at the beginning of this {@link ArgumentQueue} as {@code int} within specified range, or specified default value if no more elements are present.
+     * Invalid input is still reported by throwing an exception.
+     */
+    public int nextIntOrElse(final int min, final int max, final int def) throws NumberParseException {
+        return (cursor < arguments.length) ? this.nextInt(min, max) : def;
+    }
+
+    /**
+     * Returns next element at the beginning of this {@link ArgumentQueue} as {@code long}, parsed using {@link LongArgument}.
+     * Unlike {@link #next(Class)}, value is not boxed and no parser lookup is performed, meaning parser registered for {@link Long} is not used.
+     */
+    public long nextLong() throws NumberParseException, MissingInputException {
+        return this.nextLong(LongArgument.DEFAULT_RANGE.getMin(), LongArgument.DEFAULT_RANGE.getMax());
+    }
+
+    /**
+     * Returns next element at the beginning of this {@link ArgumentQueue} as {@code long} within specified range, parsed using {@link LongArgument}.
+     */
+    public long nextLong(final long min, final long max) throws NumberParseException, MissingInputException {
+        final @Nullable ArgumentParseEvent event = ArgumentParseEvent.start();
+        // ...
+        boolean success = false;
+        // ...
+        try {
+            final long value = LongArgument.parseLong(this.nextString(), min, max);
+            success = true;
+            return value;
+        } finally {
+            if (event != null)
+                event.complete(long.class, LongArgument.class, success);
+        }
+    }
+
+    /**
+     * Returns next element at the beginning of this {@link ArgumentQueue} as {@code long}, parsed using specified {@link LongArgumentParser}.
+     */
+    public long nextLong(final @NotNull LongArgumentParser parser) throws ArgumentParseException, MissingInputException {
+        final @Nullable ArgumentParseEvent event = ArgumentParseEvent.start();
+        // ...
+        boolean success = false;
+        // ...
+        try {
+            final long value = parser.parseLong(context, this);
+            success = true;
+            return value;
+        } finally {
+            if (event != null)
+                event.complete(long.class, parser.getClass(), success);
+        }
+    }
+
+    /**
+     * Returns next element at the beginning of this {@link ArgumentQueue} as {@code long}, or specified default value if no more elements are present.
+     * Invalid input is still reported by throwing an exception.
+     */
+    public long nextLongOrElse(final long def) throws NumberParseException {
+        return (cursor < arguments.length) ? this.nextLong() : def;
+    }
+
+    /**
+     * Returns next element at the beginning of this {@link ArgumentQueue} as {@code long} within specified range, or specified default value if no more elements are present.
+     * Invalid input is still reported by throwing an exception.
+     */
+    public long nextLongOrElse(final long min, final long max, final long def) throws NumberParseException {
+        return (cursor < arguments.length) ? this.nextLong(min, max) : def;
+    }
+
+    /**
+     * Returns next element at the beginning of this {@link ArgumentQueue} as {@code double}, parsed using {@link DoubleArgument}.
+     * Unlike {@link #next(Class)}, value is not boxed and no parser lookup is performed, meaning parser registered for {@link Double} is not used.
+     */
+    public double nextDouble() throws NumberParseException, MissingInputException {
+        return this.nextDouble(DoubleArgument.DEFAULT_RANGE.getMin(), DoubleArgument.DEFAULT_RANGE.getMax());
+    }
+
+    /**
+     * Returns next element at the beginning of this {@link ArgumentQueue} as {@code double} within specified range, parsed using {@link DoubleArgument}.
+     */
+    public double nextDouble(final double min, final double max) throws NumberParseException, MissingInputException {
+        final @Nullable ArgumentParseEvent event = ArgumentParseEvent.start();
+        // ...
+        boolean success = false;
+        // ...
+        try {
+            final double value = DoubleArgument.parseDouble(this.nextString(), min, max);
+            success = true;
+            return value;
+        } finally {
+            if (event != null)
+                event.complete(double.class, DoubleArgument.class, success);
+        }
+    }
+
+    /**
+     * Returns next element at the beginning of this {@link ArgumentQueue} as {@code double}, parsed using specified {@link DoubleArgumentParser}.
+     */
+    public double nextDouble(final @NotNull DoubleArgumentParser parser) throws ArgumentParseException, MissingInputException {
+        final @Nullable ArgumentParseEvent event = ArgumentParseEvent.start();
+        // ...
+        boolean success = false;
+        // ...
         try {
-            return iterator.next();
-        } catch (final NoSuchElementException e) {
-            throw new MissingInputException(e);
+            final double value = parser.parseDouble(context, this);
+            success = true;
+            return value;
+        } finally {
+            if (event != null)
+                event.complete(double.class, parser.getClass(), success);
         }
     }
 
+    /**
+     * Returns next element at the beginning of this {@link ArgumentQueue} as {@code double}, or specified default value if no more elements are present.
+     * Invalid input is still reported by throwing an exception.
+     */
+    public double nextDoubleOrElse(final double def) throws NumberParseException {
+        return (cursor < arguments.length) ? this.nextDouble() : def;
+    }
+
+    /**
+     * Returns next element at the beginning of this {@link ArgumentQueue} as {@code double} within specified range, or specified default value if no more elements are present.
+     * Invalid input is still reported by throwing an exception.
+     */
+    public double nextDoubleOrElse(final double min, final double max, final double def) throws NumberParseException {
+        return (cursor < arguments.length) ? this.nextDouble(min, max) : def;
+    }
+
+    /**
+     * Returns next element at the beginning of this {@link ArgumentQueue} as {@code boolean}, parsed using {@link BooleanArgument}.
+     * Unlike {@link #next(Class)}, value is not boxed and no parser lookup is performed, meaning parser registered for {@link Boolean} is not used.
+     */
+    public boolean nextBoolean() throws BooleanArgument.Exception, MissingInputException {
+        final @Nullable ArgumentParseEvent event = ArgumentParseEvent.start();
+        // ...
+        boolean success = false;
+        // ...
+        try {
+            final boolean value = BooleanArgument.parseBoolean(this.nextString());
+            success = true;
+            return value;
+        } finally {
+            if (event != null)
+                event.complete(boolean.class, BooleanArgument.class, success);
+        }
+    }
+
+    /**
+     * Returns next element at the beginning of this {@link ArgumentQueue} as {@code boolean}, parsed using specified {@link BooleanArgumentParser}.
+     */
+    public boolean nextBoolean(final @NotNull BooleanArgumentParser parser) throws ArgumentParseException, MissingInputException {
+        final @Nullable ArgumentParseEvent event = ArgumentParseEvent.start();
+        // ...
+        boolean success = false;
+        // ...
+        try {
+            final boolean value = parser.parseBoolean(context, this);
+            success = true;
+            return value;
+        } finally {
+            if (event != null)
+                event.complete(boolean.class, parser.getClass(), success);
+        }
+    }
+
+    /**
+     * Returns next element at the beginning of this {@link ArgumentQueue} as {@code boolean}, or specified default value if no more elements are present.
+     * Invalid input is still reported by throwing an exception.
+     */
+    public boolean nextBooleanOrElse(final boolean def) throws BooleanArgument.Exception {
+        return (cursor < arguments.length) ? this.nextBoolean() : def;
+    }
+
     /**
      * Returns next element at the beginning of this {@link ArgumentQueue}
      * as an {@link Argument Argument&lt;T&gt;} wrapper for specified {@link T} {@code type}.
@@ -103,7 +388,7 @@ public final class ArgumentQueue {
      * Doing otherwise, may cause loss of the desired argument order.
      */
     public <T> @NotNull Argument<T> next(final @NotNull Class<T> type) {
-        return new Argument<>(type, context, null, this);
+        return this.create(type, null);
     }
 
     /**
@@ -125,6 +410,15 @@ public final class ArgumentQueue {
      * Doing otherwise, may cause loss of the desired argument order.
      */
     public <T> @NotNull Argument<T> next(final @NotNull Class<T> type, final @NotNull ArgumentParser<T> parser) {
+        return this.create(type, parser);
+    }
+
+    // Returns Argument<T> for specified type and parser. Shared instance is re-used when possible, which is safe as long as the argument is processed immediately.
+    @SuppressWarnings("unchecked")
+    private <T> @NotNull Argument<T> create(final @NotNull Class<T> type, final @Nullable ArgumentParser<T> parser) {
+        if (flyweight != null)
+            return ((Argument<T>) flyweight).reset(type, parser);
+        // ...
         return new Argument<>(type, context, parser, this);
     }
 
@@ -147,8 +441,7 @@ public final class ArgumentQueue {
     public @NotNull ArgumentQueue peek() {
         final ArgumentQueue queue = new ArgumentQueue(context, arguments);
         // ...
-        while (queue.iterator.nextIndex() != this.iterator.nextIndex())
-            queue.iterator.next();
+        queue.cursor = this.cursor;
         // ...
         return queue;
     }
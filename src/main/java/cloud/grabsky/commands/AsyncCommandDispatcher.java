@@ -0,0 +1,183 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands;
+
+import cloud.grabsky.commands.exception.CommandTimeoutException;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * {@link AsyncCommandDispatcher} executes commands on virtual threads, enforces their deadlines
+ * and cancels invocations of players that disconnected from the server.
+ * <br />
+ * <br />
+ * Exceptions thrown by commands are always reported back on the server main thread.
+ */
+/* PACKAGE PRIVATE */ final class AsyncCommandDispatcher implements Listener {
+
+    private static final int RUNNING = 0;
+    private static final int COMPLETED = 1;
+    private static final int TIMED_OUT = 2;
+    private static final int CANCELLED = 3;
+
+    private final Plugin plugin;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService scheduler;
+    private final Map<UUID, Set<Invocation>> invocations;
+
+    /* PACKAGE PRIVATE */ AsyncCommandDispatcher(final @NotNull Plugin plugin) {
+        this.plugin = plugin;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("commands-deadline-scheduler").daemon().factory());
+        this.invocations = new ConcurrentHashMap<>();
+        // Registering listener responsible for cancelling invocations of disconnected players.
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+    }
+
+    /**
+     * Executes specified {@code task} on a virtual thread. Exception returned by the task, or {@link CommandTimeoutException} in case
+     * deadline has been exceeded, is passed to specified {@code reporter} on the server main thread.
+     *
+     * @throws IllegalStateException if this dispatcher has been shut down.
+     */
+    /* PACKAGE PRIVATE */ void dispatch(final @NotNull CommandSender sender, final long timeout, final @NotNull Supplier<@Nullable Throwable> task, final @NotNull Consumer<Throwable> reporter) throws IllegalStateException {
+        if (executor.isShutdown() == true)
+            throw new IllegalStateException("Asynchronous command cannot be dispatched after RootCommandManager has been closed.");
+        // ...
+        final Invocation invocation = new Invocation((sender instanceof Player player) ? player.getUniqueId() : null);
+        // Tracking invocations of players, so they can be cancelled upon disconnect. Adding within the compute, so concurrent untrack cannot drop the set in the meantime.
+        if (invocation.owner != null)
+            invocations.compute(invocation.owner, (___, running) -> {
+                final Set<Invocation> set = (running != null) ? running : ConcurrentHashMap.newKeySet();
+                set.add(invocation);
+                return set;
+            });
+        // Submitting the task...
+        invocation.future = executor.submit(() -> {
+            try {
+                final @Nullable Throwable thrown = task.get();
+                // Reporting only if invocation was not timed out or cancelled in the meantime.
+                if (invocation.state.compareAndSet(RUNNING, COMPLETED) == true) {
+                    if (invocation.deadline != null)
+                        invocation.deadline.cancel(false);
+                    // ...
+                    if (thrown != null)
+                        this.report(thrown, reporter);
+                }
+            } finally {
+                this.untrack(invocation);
+            }
+        });
+        // Scheduling the deadline...
+        if (timeout > 0)
+            invocation.deadline = scheduler.schedule(() -> {
+                if (invocation.state.compareAndSet(RUNNING, TIMED_OUT) == true) {
+                    invocation.future.cancel(true);
+                    // ...
+                    this.untrack(invocation);
+                    this.report(new CommandTimeoutException(timeout), reporter);
+                }
+            }, timeout, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops both executors, interrupting running invocations, and unregisters the listener. Nothing can be dispatched afterwards.
+     */
+    /* PACKAGE PRIVATE */ void shutdown() {
+        HandlerList.unregisterAll(this);
+        // Interrupting running invocations and cancelling scheduled deadlines...
+        executor.shutdownNow();
+        scheduler.shutdownNow();
+        // ...
+        invocations.clear();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final @NotNull PlayerQuitEvent event) {
+        final @Nullable Set<Invocation> running = invocations.remove(event.getPlayer().getUniqueId());
+        // ...
+        if (running == null)
+            return;
+        // Cancelling all invocations of that player. Nothing is reported as there is no one to report to.
+        for (final Invocation invocation : running) {
+            if (invocation.state.compareAndSet(RUNNING, CANCELLED) == true) {
+                invocation.future.cancel(true);
+                // ...
+                if (invocation.deadline != null)
+                    invocation.deadline.cancel(false);
+            }
+        }
+    }
+
+    // Passes exception to the reporter on the server main thread.
+    private void report(final @NotNull Throwable thrown, final @NotNull Consumer<Throwable> reporter) {
+        plugin.getServer().getScheduler().runTask(plugin, () -> reporter.accept(thrown));
+    }
+
+    // Stops tracking specified invocation.
+    private void untrack(final @NotNull Invocation invocation) {
+        if (invocation.owner != null)
+            invocations.computeIfPresent(invocation.owner, (___, running) -> (running.remove(invocation) == true && running.isEmpty() == true) ? null : running);
+    }
+
+    /**
+     * Represents state of a single asynchronous command invocation.
+     */
+    private static final class Invocation {
+
+        private final @Nullable UUID owner;
+        private final AtomicInteger state = new AtomicInteger(RUNNING);
+
+        private volatile Future<?> future;
+        private volatile @Nullable ScheduledFuture<?> deadline;
+
+        private Invocation(final @Nullable UUID owner) {
+            this.owner = owner;
+        }
+
+    }
+
+}
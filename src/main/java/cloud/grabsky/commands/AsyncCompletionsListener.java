@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands;
+
+import com.destroystokyo.paper.event.server.AsyncTabCompleteEvent;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@link AsyncCompletionsListener} answers completions of commands registered by {@link RootCommandManager} from Paper's
+ * {@link AsyncTabCompleteEvent}. Requests that cannot be answered off the main thread are left unhandled, so that
+ * server requests them again from the main thread.
+ */
+/* PACKAGE PRIVATE */ final class AsyncCompletionsListener implements Listener {
+
+    private final RootCommandManager manager;
+
+    /* PACKAGE PRIVATE */ AsyncCompletionsListener(final @NotNull RootCommandManager manager) {
+        this.manager = manager;
+    }
+
+    @EventHandler(ignoreCancelled = true)
+    public void onAsyncTabComplete(final @NotNull AsyncTabCompleteEvent event) {
+        if (manager.isAsyncCompletions() == false || event.isHandled() == true || event.isCommand() == false)
+            return;
+        // Removing leading slash, which is present for players but not for console.
+        final String buffer = (event.getBuffer().startsWith("/") == true) ? event.getBuffer().substring(1) : event.getBuffer();
+        // ...
+        final int separator = buffer.indexOf(' ');
+        // Skipping completions of command labels; these are handled by the server.
+        if (separator == -1)
+            return;
+        // ...
+        final @Nullable RootCommandManager.RegisteredCommand command = manager.getRegisteredCommand(buffer.substring(0, separator).toLowerCase(Locale.ROOT));
+        // Skipping commands not registered by this manager, or those executor has no permission to use.
+        if (command == null || command.testPermissionSilent(event.getSender()) == false)
+            return;
+        // Splitting arguments the same way server does; trailing empty argument is preserved.
+        final String[] args = buffer.substring(separator + 1).split(" ", -1);
+        // ...
+        final @Nullable List<String> completions = command.complete(event.getSender(), buffer.substring(0, separator), args, true);
+        // Leaving the event unhandled for completions that must be computed on the main thread.
+        if (completions == null)
+            return;
+        // ...
+        event.setCompletions(new ArrayList<>(completions));
+        event.setHandled(true);
+    }
+
+}
@@ -0,0 +1,283 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@link CommandAuditLog} records every executed command to an append-only file, without ever blocking the executing thread.
+ * <ul>
+ *     <li>Records are put into a bounded, lock-free ring buffer. Records that do not fit are dropped and counted.</li>
+ *     <li>Background thread drains the buffer and appends records in batches, using {@link FileChannel}.</li>
+ *     <li>File is rotated once it exceeds configured size.</li>
+ * </ul>
+ * Each record is a single, tab-separated line consisting of: time, sender, label, arguments, outcome and duration in microseconds.
+ * <br />
+ * <br />
+ * Audit log can be enabled using {@link RootCommandManager#setAuditLog(CommandAuditLog)}.
+ */
+public final class CommandAuditLog implements AutoCloseable {
+
+    private static final String FILE_NAME = "commands.log";
+
+    private static final int BATCH_SIZE = 512;
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Getter(AccessLevel.PUBLIC)
+    private final @NotNull Path directory;
+
+    @Getter(AccessLevel.PUBLIC)
+    private final long maxFileSize;
+
+    // Ring buffer. Slot is null when it is free, or when claimed record is not yet published.
+    private final AtomicReferenceArray<Entry> slots;
+    private final int mask;
+
+    // Sequence of the next slot to be claimed by producers.
+    private final AtomicLong tail = new AtomicLong();
+
+    // Sequence of the next slot to be consumed by the writer. Written only by the writer thread.
+    private volatile long head = 0L;
+
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean running = false;
+    private @Nullable Thread writer;
+    private @Nullable Logger logger;
+
+    private @Nullable FileChannel channel;
+    private long fileSize;
+
+    private CommandAuditLog(final @NotNull Path directory, final int capacity, final long maxFileSize) {
+        this.directory = directory;
+        this.maxFileSize = maxFileSize;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Creates {@link CommandAuditLog} writing to specified directory, with buffer of 8192 records and files rotated after 16MB.
+     */
+    public static @NotNull CommandAuditLog of(final @NotNull Path directory) {
+        return of(directory, 8192, 16L * 1024 * 1024);
+    }
+
+    /**
+     * Creates {@link CommandAuditLog} writing to specified directory, with specified buffer capacity and maximum file size.
+     *
+     * @throws IllegalArgumentException if capacity is not a positive power of two, or maximum file size is not positive.
+     */
+    public static @NotNull CommandAuditLog of(final @NotNull Path directory, final int capacity, final long maxFileSize) throws IllegalArgumentException {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1)
+            throw new IllegalArgumentException("Capacity must be a positive power of two.");
+        // ...
+        if (maxFileSize < 1)
+            throw new IllegalArgumentException("Maximum file size must be positive.");
+        // ...
+        return new CommandAuditLog(directory, capacity, maxFileSize);
+    }
+
+    /**
+     * Returns number of records dropped due to the buffer being full.
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Records execution of specified command. Never blocks; record is dropped if the buffer is full.
+     */
+    /* PACKAGE PRIVATE */ void record(final @NotNull RootCommandContext context, final @NotNull String[] arguments, final @Nullable Throwable thrown, final long nanos) {
+        if (running == false)
+            return;
+        // ...
+        final CommandSender sender = context.getExecutor().asCommandSender();
+        final Entry entry = new Entry(
+                System.currentTimeMillis(),
+                (sender instanceof Entity entity) ? entity.getUniqueId().toString() : sender.getName(),
+                context.getLabel(),
+                arguments,
+                (thrown == null) ? "SUCCESS" : thrown.getClass().getName(),
+                nanos
+        );
+        // Claiming the slot...
+        long sequence;
+        // ...
+        do {
+            sequence = tail.get();
+            // Dropping the record when buffer is full, instead of waiting for the writer.
+            if (sequence - head >= slots.length()) {
+                dropped.increment();
+                return;
+            }
+        } while (tail.compareAndSet(sequence, sequence + 1) == false);
+        // Publishing the record...
+        slots.setRelease((int) (sequence & mask), entry);
+    }
+
+    /**
+     * Starts the writer thread.
+     */
+    /* PACKAGE PRIVATE */ synchronized void start(final @NotNull Logger logger) {
+        if (running == true)
+            return;
+        // ...
+        this.logger = logger;
+        this.running = true;
+        this.writer = new Thread(this::run, "commands-audit-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Stops the writer thread, after writing all buffered records, and closes the file.
+     */
+    @Override
+    public synchronized void close() {
+        if (running == false)
+            return;
+        // ...
+        running = false;
+        // ...
+        if (writer != null) {
+            LockSupport.unpark(writer);
+            // Waiting for remaining records to be written...
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        writer = null;
+    }
+
+    private void run() {
+        final StringBuilder batch = new StringBuilder();
+        // ...
+        try {
+            this.open();
+            // Draining until stopped and no records are left...
+            while (running == true || head != tail.get()) {
+                int drained = 0;
+                // ...
+                for (@Nullable Entry entry; drained < BATCH_SIZE && (entry = this.poll()) != null; drained++)
+                    entry.appendTo(batch);
+                // ...
+                if (drained == 0) {
+                    // Record may have been claimed but not yet published; waiting shortly in such case.
+                    if (running == false && head != tail.get())
+                        Thread.onSpinWait();
+                    else
+                        LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    continue;
+                }
+                this.write(batch);
+                batch.setLength(0);
+            }
+        } catch (final IOException e) {
+            if (logger != null)
+                logger.log(Level.SEVERE, "Audit log has been stopped due to an I/O error.", e);
+            // ...
+            running = false;
+        } finally {
+            try {
+                if (channel != null)
+                    channel.close();
+            } catch (final IOException ignored) { /* IGNORED */ }
+        }
+    }
+
+    // Returns next published record, or null if there is none. Called only by the writer thread.
+    private @Nullable Entry poll() {
+        final int index = (int) (head & mask);
+        final @Nullable Entry entry = slots.getAcquire(index);
+        // ...
+        if (entry == null)
+            return null;
+        // Freeing the slot before moving the head, so producers never overwrite unconsumed record.
+        slots.setRelease(index, null);
+        head = head + 1;
+        // ...
+        return entry;
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        // ...
+        channel = FileChannel.open(directory.resolve(FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        fileSize = channel.size();
+    }
+
+    private void write(final @NotNull StringBuilder batch) throws IOException {
+        final ByteBuffer buffer = StandardCharsets.UTF_8.encode(batch.toString());
+        // ...
+        while (buffer.hasRemaining() == true)
+            fileSize += channel.write(buffer);
+        // Rotating the file once it exceeds the size...
+        if (fileSize >= maxFileSize) {
+            channel.close();
+            Files.move(directory.resolve(FILE_NAME), directory.resolve("commands-" + System.currentTimeMillis() + ".log"));
+            this.open();
+        }
+    }
+
+    private record Entry(long time, String sender, String label, String[] arguments, String outcome, long nanos) {
+
+        void appendTo(final @NotNull StringBuilder builder) {
+            builder.append(Instant.ofEpochMilli(time)).append('\t').append(sender).append('\t').append(label).append('\t');
+            // ...
+            for (int i = 0; i < arguments.length; i++) {
+                if (i != 0)
+                    builder.append(' ');
+                // Escaping characters that would break the format...
+                builder.append(arguments[i].replace('\t', ' ').replace('\n', ' ').replace('\r', ' '));
+            }
+            builder.append('\t').append(outcome).append('\t').append(TimeUnit.NANOSECONDS.toMicros(nanos)).append('\n');
+        }
+
+    }
+
+}
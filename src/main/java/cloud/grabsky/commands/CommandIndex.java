@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands;
+
+import cloud.grabsky.commands.annotation.Command;
+import cloud.grabsky.commands.annotation.Dependency;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * {@link CommandIndex} is a compile-time index of {@link Command @Command} classes, generated by the {@code commands-processor} annotation processor.
+ * Commands registered from an index are instantiated and injected by generated code, without any use of reflection.
+ *
+ * @see RootCommandManager#registerCommands(CommandIndex)
+ */
+public interface CommandIndex {
+
+    /**
+     * Returns {@link List List&lt;Entry&gt;} of indexed commands, in order of declaration.
+     */
+    @NotNull @Unmodifiable List<Entry> getEntries();
+
+    /**
+     * Resolves values of {@link Dependency @Dependency} fields.
+     */
+    @Internal
+    @FunctionalInterface
+    interface Resolver {
+
+        /**
+         * Returns dependency of specified type, resolved for specified {@link RootCommand}.
+         *
+         * @throws IllegalStateException when no dependency for that type has been registered.
+         */
+        <T> T resolve(final @NotNull RootCommand command, final @NotNull String field, final @NotNull Class<T> type) throws IllegalStateException;
+
+    }
+
+    /**
+     * Assigns values of {@link Dependency @Dependency} fields.
+     */
+    @Internal
+    @FunctionalInterface
+    interface Injector {
+
+        void inject(final @NotNull RootCommand command, final @NotNull Resolver resolver) throws IllegalStateException;
+
+    }
+
+    /**
+     * Indexed {@link Command @Command} class along with its metadata. Dependencies are types of {@link Dependency @Dependency} fields, by field names.
+     */
+    record Entry(
+            @NotNull Class<? extends RootCommand> type,
+            @NotNull String name,
+            @NotNull List<String> aliases,
+            @NotNull String permission,
+            @NotNull String usage,
+            @NotNull String description,
+            boolean async,
+            long timeout,
+            boolean asyncCompletions,
+            @NotNull Map<String, Class<?>> dependencies,
+            @NotNull Supplier<RootCommand> constructor,
+            @NotNull Injector injector
+    ) { /* DATA */ }
+
+}
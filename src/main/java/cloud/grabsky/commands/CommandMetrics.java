@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands;
+
+import cloud.grabsky.commands.exception.CommandLogicException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link CommandMetrics} contains latency and outcome metrics of a single command, separately for execution and completions.
+ * Metrics are recorded using lock-free counters and can be read at any time using {@link #snapshot()}.
+ *
+ * @see RootCommandManager#setRecordingMetrics(boolean)
+ */
+public final class CommandMetrics {
+
+    /**
+     * Upper bounds (exclusive, in microseconds) of latency histogram buckets. Last bucket of the histogram contains all remaining invocations.
+     */
+    public static final @Unmodifiable List<Long> BUCKET_BOUNDS = List.of(100L, 250L, 500L, 1_000L, 2_500L, 5_000L, 10_000L, 25_000L, 50_000L, 100_000L);
+
+    private static final long[] BUCKET_BOUNDS_NANOS = BUCKET_BOUNDS.stream().mapToLong(TimeUnit.MICROSECONDS::toNanos).toArray();
+
+    @Getter(AccessLevel.PUBLIC)
+    private final @NotNull String command;
+
+    /* PACKAGE PRIVATE */ final Recorder execute = new Recorder();
+    /* PACKAGE PRIVATE */ final Recorder tabComplete = new Recorder();
+
+    /* PACKAGE PRIVATE */ CommandMetrics(final @NotNull String command) {
+        this.command = command;
+    }
+
+    /**
+     * Returns an immutable snapshot of current metrics.
+     */
+    public @NotNull Snapshot snapshot() {
+        return new Snapshot(command, execute.snapshot(), tabComplete.snapshot());
+    }
+
+    /**
+     * Records invocations of a single kind. Safe to use from multiple threads.
+     */
+    /* PACKAGE PRIVATE */ static final class Recorder {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder[] histogram = new LongAdder[BUCKET_BOUNDS_NANOS.length + 1];
+        private final Map<Class<? extends CommandLogicException>, LongAdder> failures = new ConcurrentHashMap<>();
+        private final LongAdder errors = new LongAdder();
+
+        private Recorder() {
+            for (int i = 0; i < histogram.length; i++)
+                histogram[i] = new LongAdder();
+        }
+
+        /**
+         * Records invocation that took specified number of nanoseconds and completed with specified exception, or {@code null} if completed successfully.
+         */
+        void record(final long nanos, final @Nullable Throwable thrown) {
+            count.increment();
+            totalNanos.add(nanos);
+            // Finding the histogram bucket...
+            int bucket = 0;
+            // ...
+            while (bucket < BUCKET_BOUNDS_NANOS.length && nanos >= BUCKET_BOUNDS_NANOS[bucket])
+                bucket++;
+            // ...
+            histogram[bucket].increment();
+            // Counting failures by their type...
+            if (thrown instanceof CommandLogicException e)
+                failures.computeIfAbsent(e.getClass(), (___) -> new LongAdder()).increment();
+            else if (thrown != null)
+                errors.increment();
+        }
+
+        private @NotNull Timings snapshot() {
+            final long[] buckets = new long[histogram.length];
+            // ...
+            for (int i = 0; i < histogram.length; i++)
+                buckets[i] = histogram[i].sum();
+            // ...
+            final Map<Class<? extends CommandLogicException>, Long> failures = new HashMap<>(this.failures.size());
+            // ...
+            this.failures.forEach((type, counter) -> failures.put(type, counter.sum()));
+            // ...
+            return new Timings(count.sum(), totalNanos.sum(), Arrays.stream(buckets).boxed().toList(), Map.copyOf(failures), errors.sum());
+        }
+
+    }
+
+    /**
+     * Immutable snapshot of {@link CommandMetrics}.
+     *
+     * @param command Name of the command.
+     * @param execute Metrics of command executions.
+     * @param tabComplete Metrics of completion requests.
+     */
+    public record Snapshot(@NotNull String command, @NotNull Timings execute, @NotNull Timings tabComplete) { /* DATA */ }
+
+    /**
+     * Immutable metrics of invocations of a single kind.
+     *
+     * @param count Number of recorded invocations.
+     * @param totalNanos Total time spent in recorded invocations, in nanoseconds.
+     * @param histogram Number of invocations in each latency bucket. See {@link CommandMetrics#BUCKET_BOUNDS}.
+     * @param failures Number of invocations that failed with {@link CommandLogicException}, by its type.
+     * @param errors Number of invocations that failed with any other exception.
+     */
+    public record Timings(long count, long totalNanos, @NotNull @Unmodifiable List<Long> histogram, @NotNull @Unmodifiable Map<Class<? extends CommandLogicException>, Long> failures, long errors) {
+
+        /**
+         * Returns average invocation time, in nanoseconds.
+         */
+        public long averageNanos() {
+            return (count != 0) ? totalNanos / count : 0L;
+        }
+
+    }
+
+}
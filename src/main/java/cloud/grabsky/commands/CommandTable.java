@@ -0,0 +1,204 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands;
+
+import cloud.grabsky.commands.component.CompletionsIndex;
+import cloud.grabsky.commands.component.CompletionsProvider;
+import cloud.grabsky.commands.component.CompletionsSink;
+import cloud.grabsky.commands.exception.ArgumentParseException;
+import cloud.grabsky.commands.exception.CommandLogicException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link CommandTable} is a {@link RootCommand} that routes its first argument to one of entries, which can be added or removed at any time.
+ * Entries are not registered to the server, so tables with thousands of entries (like one per warp or kit) add only a single command to the command tree.
+ * <ul>
+ *     <li>Adding, removing and looking up entries takes {@code O(1)} and can be done from any thread.</li>
+ *     <li>Names of entries are completed using {@link CompletionsIndex}, which is rebuilt on first completion request after the table has been modified.
+ *         Entries that executor has no permission to use are neither completed nor executed.</li>
+ *     <li>Entries are executed with arguments following the entry name. {@link RootCommandContext#getCommand()} returns the table in such case.</li>
+ *     <li>Only name, permission, {@link RootCommand#onCommand} and {@link RootCommand#onTabComplete} of entries are used.</li>
+ * </ul>
+ */
+public final class CommandTable extends RootCommand {
+
+    // Entries by their (lower-case) names.
+    private final Map<String, RootCommand> entries = new ConcurrentHashMap<>();
+
+    // Incremented on each modification, so outdated snapshot of names can be detected.
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile @Nullable Snapshot snapshot;
+
+    // Completes names of entries, matched using the index and then filtered by permission.
+    private final CompletionsProvider names = new CompletionsProvider() {
+
+        @Override
+        public @NotNull List<String> provide(final @NotNull RootCommandContext context) {
+            final List<String> result = new ArrayList<>();
+            // ...
+            for (final String name : getNames())
+                if (isPermitted(context, get(name)) == true)
+                    result.add(name);
+            // ...
+            return result;
+        }
+
+        @Override
+        public void provide(final @NotNull RootCommandContext context, final @NotNull CompletionsSink sink) {
+            // Narrowing down using the index first, so permissions are tested only for matching entries.
+            for (final String name : getNames().filter(sink.getInput()))
+                if (isPermitted(context, get(name)) == true && sink.accept(name) == false)
+                    return;
+        }
+
+        @Override
+        public boolean isThreadSafe(final @NotNull RootCommandContext context) {
+            return true;
+        }
+
+    };
+
+    public CommandTable(final @NotNull String name, final @Nullable List<String> aliases, final @Nullable String permission, final @Nullable String usage, final @Nullable String description) {
+        super(name, aliases, permission, usage, description);
+    }
+
+    /**
+     * Adds specified entry to this {@link CommandTable}, replacing existing entry with the same name.
+     *
+     * @throws IllegalArgumentException when entry is unnamed.
+     */
+    public CommandTable put(final @NotNull RootCommand entry) throws IllegalArgumentException {
+        if (entry.getName() == null || entry.getName().isEmpty() == true)
+            throw new IllegalArgumentException("Entry definition in class " + entry.getClass().getName() + " is unnamed.");
+        // ...
+        entries.put(entry.getName().toLowerCase(Locale.ROOT), entry);
+        version.incrementAndGet();
+        // ...
+        return this;
+    }
+
+    /**
+     * Removes entry with specified name from this {@link CommandTable}. Returns removed entry, or {@code null} if not found.
+     */
+    public @Nullable RootCommand remove(final @NotNull String name) {
+        final @Nullable RootCommand removed = entries.remove(name.toLowerCase(Locale.ROOT));
+        // ...
+        if (removed != null)
+            version.incrementAndGet();
+        // ...
+        return removed;
+    }
+
+    /**
+     * Returns entry with specified name, or {@code null} if not found. Lookup is case-insensitive.
+     */
+    public @Nullable RootCommand get(final @NotNull String name) {
+        return entries.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns {@link Collection Collection&lt;RootCommand&gt;} of all entries of this {@link CommandTable}.
+     */
+    public @NotNull @Unmodifiable Collection<RootCommand> getEntries() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    /**
+     * Returns number of entries of this {@link CommandTable}.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns {@link CompletionsIndex} of names of all entries. Index is rebuilt when called for the first time after this {@link CommandTable} has been modified.
+     */
+    public @NotNull CompletionsIndex getNames() {
+        // Reading version first, so modifications made while the index is being built are not lost.
+        final long current = version.get();
+        final @Nullable Snapshot existing = this.snapshot;
+        // ...
+        if (existing != null && existing.version == current)
+            return existing.names;
+        // ...
+        final CompletionsIndex names = CompletionsIndex.of(entries.values().stream().map(RootCommand::getName).toList());
+        this.snapshot = new Snapshot(current, names);
+        // ...
+        return names;
+    }
+
+    @Override
+    public @NotNull CompletionsProvider onTabComplete(final @NotNull RootCommandContext context, final int index) throws CommandLogicException {
+        // Completing names of entries executor has permission to use...
+        if (index == 0)
+            return names;
+        // Delegating to the entry...
+        final @Nullable RootCommand entry = this.get(context.getInput().at(1, ""));
+        // ...
+        return (isPermitted(context, entry) == true) ? entry.onTabComplete(context, index - 1) : CompletionsProvider.EMPTY;
+    }
+
+    @Override
+    public void onCommand(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) throws CommandLogicException {
+        final String name = arguments.nextString();
+        // ...
+        final @Nullable RootCommand entry = this.get(name);
+        // Entries that executor has no permission for are treated as non-existent.
+        if (isPermitted(context, entry) == false)
+            throw new CommandTable.Exception(name);
+        // Delegating to the entry, with remaining arguments...
+        entry.onCommand(context, arguments);
+    }
+
+    // Returns true if executor has permission to use specified entry. Entries removed in the meantime are not permitted.
+    private static boolean isPermitted(final @NotNull RootCommandContext context, final @Nullable RootCommand entry) {
+        return entry != null && (entry.getPermission() == null || entry.getPermission().isEmpty() == true || context.getExecutor().hasPermission(entry.getPermission()) == true);
+    }
+
+    private record Snapshot(long version, @NotNull CompletionsIndex names) { /* DATA */ }
+
+    /**
+     * {@link Exception} is thrown when name of non-existent (or not permitted) entry is provided for {@link CommandTable}.
+     */
+    public static final class Exception extends ArgumentParseException {
+
+        private Exception(final String inputValue) {
+            super(inputValue);
+        }
+
+    }
+
+}
@@ -0,0 +1,253 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands;
+
+import cloud.grabsky.commands.component.CompletionsProvider;
+import cloud.grabsky.commands.component.CompletionsSink;
+import cloud.grabsky.commands.exception.CommandLogicException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * {@link CommandTree} is a declarative definition of subcommands of a {@link RootCommand}.
+ * Tree is compiled once, when command is registered, and then used to route both execution and completions.
+ * <pre>
+ * &#64;Override
+ * public CommandTree createTree() {
+ *     return CommandTree.create()
+ *             .literal("give", (give) -> give
+ *                     .executes(this::onGive)
+ *                     .completes((context, index) -> (index == 0) ? CompletionsProvider.of(Player.class) : CompletionsProvider.EMPTY))
+ *             .literal("reset", List.of("clear"), (reset) -> reset
+ *                     .executes(this::onReset));
+ * }
+ * </pre>
+ * Input not matching any declared path is handled by {@link RootCommand#onCommand} and {@link RootCommand#onTabComplete}.
+ */
+public final class CommandTree {
+
+    private final Map<String, CommandTree> literals = new LinkedHashMap<>();
+    private final Map<String, List<String>> aliases = new HashMap<>();
+
+    private @Nullable Handler handler;
+    private @Nullable Completions completions;
+
+    private CommandTree() { /* EMPTY */ }
+
+    /**
+     * Creates and returns new, empty {@link CommandTree}.
+     */
+    public static @NotNull CommandTree create() {
+        return new CommandTree();
+    }
+
+    /**
+     * Declares literal subcommand with specified name. Literals are matched case-insensitively.
+     */
+    public @NotNull CommandTree literal(final @NotNull String name, final @NotNull Consumer<CommandTree> consumer) {
+        return this.literal(name, List.of(), consumer);
+    }
+
+    /**
+     * Declares literal subcommand with specified name and aliases. Literals are matched case-insensitively.
+     */
+    public @NotNull CommandTree literal(final @NotNull String name, final @NotNull List<String> aliases, final @NotNull Consumer<CommandTree> consumer) {
+        final CommandTree child = literals.computeIfAbsent(name, (___) -> new CommandTree());
+        // ...
+        this.aliases.put(name, List.copyOf(aliases));
+        // ...
+        consumer.accept(child);
+        // ...
+        return this;
+    }
+
+    /**
+     * Sets {@link Handler} to be called when input matches this node. {@link ArgumentQueue} is positioned right after the last matched literal.
+     */
+    public @NotNull CommandTree executes(final @NotNull Handler handler) {
+        this.handler = handler;
+        // ...
+        return this;
+    }
+
+    /**
+     * Sets {@link Completions} to be called for arguments following this node. Index is relative to the first argument after the last matched literal.
+     */
+    public @NotNull CommandTree completes(final @NotNull Completions completions) {
+        this.completions = completions;
+        // ...
+        return this;
+    }
+
+    /**
+     * Compiles this {@link CommandTree} to an immutable {@link Node}.
+     */
+    /* PACKAGE PRIVATE */ @NotNull Node compile() {
+        return this.compile(0);
+    }
+
+    private @NotNull Node compile(final int depth) {
+        final Map<String, Node> children = new HashMap<>();
+        final List<String> names = new ArrayList<>(literals.size());
+        // ...
+        literals.forEach((name, literal) -> {
+            final Node child = literal.compile(depth + 1);
+            // ...
+            names.add(name);
+            children.put(name.toLowerCase(Locale.ROOT), child);
+            // ...
+            for (final String alias : aliases.getOrDefault(name, List.of()))
+                children.putIfAbsent(alias.toLowerCase(Locale.ROOT), child);
+        });
+        // ...
+        return new Node(depth, children, Collections.unmodifiableList(names), handler, completions);
+    }
+
+    /**
+     * {@link Handler} defines logic executed when input matches specific {@link CommandTree} node.
+     */
+    @FunctionalInterface
+    public interface Handler {
+
+        void onCommand(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) throws CommandLogicException;
+
+    }
+
+    /**
+     * {@link Completions} defines completions for arguments following specific {@link CommandTree} node.
+     */
+    @FunctionalInterface
+    public interface Completions {
+
+        @NotNull CompletionsProvider onTabComplete(final @NotNull RootCommandContext context, final int index) throws CommandLogicException;
+
+    }
+
+    /**
+     * {@link Node} is an immutable, compiled form of {@link CommandTree}. Children are hashed by their lower-case name and aliases.
+     */
+    /* PACKAGE PRIVATE */ static final class Node {
+
+        private final int depth;
+        private final Map<String, Node> children;
+        private final @Unmodifiable List<String> names;
+        private final @Nullable Handler handler;
+        private final @Nullable Completions completions;
+        private final CompletionsProvider literalsProvider;
+
+        private Node(final int depth, final @NotNull Map<String, Node> children, final @NotNull @Unmodifiable List<String> names, final @Nullable Handler handler, final @Nullable Completions completions) {
+            this.depth = depth;
+            this.children = children;
+            this.names = names;
+            this.handler = handler;
+            this.completions = completions;
+            // Names are unmodifiable, hence safe to be completed off the main thread.
+            this.literalsProvider = CompletionsProvider.threadSafe(CompletionsProvider.of(names));
+        }
+
+        private @Nullable Node child(final @Nullable String literal) {
+            return (literal != null && children.isEmpty() == false) ? children.get(literal.toLowerCase(Locale.ROOT)) : null;
+        }
+
+        /**
+         * Routes execution to the deepest matching node and calls its {@link Handler}.
+         * Falls back to {@link RootCommand#onCommand} with rewound {@link ArgumentQueue} when matched node has no handler.
+         */
+        /* PACKAGE PRIVATE */ void execute(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue queue) throws CommandLogicException {
+            Node node = this;
+            // Consuming literals for as long as they match...
+            for (Node child = node.child(queue.peekString()); child != null; child = node.child(queue.peekString())) {
+                queue.nextString();
+                node = child;
+            }
+            // Calling node handler...
+            if (node.handler != null) {
+                node.handler.onCommand(context, queue);
+                return;
+            }
+            // Falling back to RootCommand#onCommand otherwise.
+            queue.rewind();
+            context.getCommand().onCommand(context, queue);
+        }
+
+        /**
+         * Routes completions to the deepest matching node and returns {@link CompletionsProvider} for the last argument.
+         * Falls back to {@link RootCommand#onTabComplete} when matched node has no completions.
+         */
+        /* PACKAGE PRIVATE */ @NotNull CompletionsProvider complete(final @NotNull RootCommandContext context, final @NotNull String[] arguments) throws CommandLogicException {
+            final int index = arguments.length - 1;
+            // ...
+            Node node = this;
+            // Walking the tree through all but the last argument...
+            for (int i = 0; i < index; i++) {
+                final Node child = node.child(arguments[i]);
+                // ...
+                if (child == null)
+                    break;
+                // ...
+                node = child;
+            }
+            // Suggesting literals when last argument directly follows the node.
+            if (node.depth == index && node.names.isEmpty() == false) {
+                if (node.completions == null)
+                    return node.literalsProvider;
+                // Merging literals with node completions...
+                final Node that = node;
+                return new CompletionsProvider() {
+
+                    @Override
+                    public @NotNull List<String> provide(final @NotNull RootCommandContext ctx) throws CommandLogicException {
+                        final List<String> result = new ArrayList<>(that.names);
+                        result.addAll(that.completions.onTabComplete(ctx, 0).provide(ctx));
+                        return result;
+                    }
+
+                    @Override
+                    public void provide(final @NotNull RootCommandContext ctx, final @NotNull CompletionsSink sink) throws CommandLogicException {
+                        if (sink.acceptAll(that.names) == true)
+                            that.completions.onTabComplete(ctx, 0).provide(ctx, sink);
+                    }
+
+                };
+            }
+            // Calling node completions...
+            if (node.completions != null)
+                return node.completions.onTabComplete(context, index - node.depth);
+            // Falling back to RootCommand#onTabComplete otherwise.
+            return context.getCommand().onTabComplete(context, index);
+        }
+
+    }
+
+}
@@ -0,0 +1,299 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@link CommandWatchdog} detects command executions and completion requests exceeding configured budget on the main thread.
+ * <ul>
+ *     <li>Invocations exceeding the budget are aggregated per command, along with input and sender of the slowest one.</li>
+ *     <li>Invocations exceeding the stall threshold additionally have the main thread stack captured while still running.</li>
+ *     <li>Aggregated findings are logged at most once per report interval, and only if there were new findings.</li>
+ * </ul>
+ * Watchdog can be enabled using {@link RootCommandManager#setWatchdog(CommandWatchdog)}.
+ */
+public final class CommandWatchdog {
+
+    @Getter(AccessLevel.PUBLIC)
+    private final @NotNull Duration budget;
+
+    @Getter(AccessLevel.PUBLIC)
+    private final @NotNull Duration stallThreshold;
+
+    @Getter(AccessLevel.PUBLIC)
+    private final @NotNull Duration reportInterval;
+
+    private final long budgetNanos;
+    private final long stallThresholdNanos;
+
+    private final Map<Key, Aggregate> aggregates = new ConcurrentHashMap<>();
+
+    // Invocation currently running on the main thread, if any.
+    private volatile @Nullable Inflight current;
+
+    private @Nullable ScheduledExecutorService monitor;
+
+    private CommandWatchdog(final @NotNull Duration budget, final @NotNull Duration stallThreshold, final @NotNull Duration reportInterval) {
+        this.budget = budget;
+        this.stallThreshold = stallThreshold;
+        this.reportInterval = reportInterval;
+        this.budgetNanos = budget.toNanos();
+        this.stallThresholdNanos = stallThreshold.toNanos();
+    }
+
+    /**
+     * Creates {@link CommandWatchdog} with specified budget. Stall threshold defaults to ten times the budget and findings are reported every minute.
+     */
+    public static @NotNull CommandWatchdog of(final @NotNull Duration budget) throws IllegalArgumentException {
+        return of(budget, budget.multipliedBy(10), Duration.ofMinutes(1));
+    }
+
+    /**
+     * Creates {@link CommandWatchdog} with specified budget, stall threshold and report interval.
+     *
+     * @throws IllegalArgumentException if any of the durations is not positive, or stall threshold is lower than the budget.
+     */
+    public static @NotNull CommandWatchdog of(final @NotNull Duration budget, final @NotNull Duration stallThreshold, final @NotNull Duration reportInterval) throws IllegalArgumentException {
+        if (budget.isNegative() == true || budget.isZero() == true || reportInterval.isNegative() == true || reportInterval.isZero() == true)
+            throw new IllegalArgumentException("Budget and report interval must be positive.");
+        // ...
+        if (stallThreshold.compareTo(budget) < 0)
+            throw new IllegalArgumentException("Stall threshold cannot be lower than the budget.");
+        // ...
+        return new CommandWatchdog(budget, stallThreshold, reportInterval);
+    }
+
+    /**
+     * Returns an immutable snapshot of all findings, sorted by number of slow invocations, descending.
+     */
+    public @NotNull @Unmodifiable List<Finding> getFindings() {
+        final List<Finding> findings = new ArrayList<>(aggregates.size());
+        // ...
+        aggregates.forEach((key, aggregate) -> findings.add(aggregate.snapshot(key)));
+        // ...
+        findings.sort(Comparator.comparingLong(Finding::count).reversed());
+        // ...
+        return List.copyOf(findings);
+    }
+
+    /**
+     * Starts the monitor thread, responsible for capturing stalls and reporting findings to specified {@link Logger}.
+     */
+    /* PACKAGE PRIVATE */ synchronized void start(final @NotNull Logger logger) {
+        if (monitor != null)
+            return;
+        // ...
+        monitor = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+            final Thread thread = new Thread(runnable, "commands-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Sampling often enough to capture the stack shortly after threshold is exceeded...
+        final long samplingNanos = Math.max(stallThresholdNanos / 2, TimeUnit.MILLISECONDS.toNanos(1));
+        // ...
+        monitor.scheduleAtFixedRate(this::sample, samplingNanos, samplingNanos, TimeUnit.NANOSECONDS);
+        monitor.scheduleAtFixedRate(() -> this.report(logger), reportInterval.toNanos(), reportInterval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops the monitor thread.
+     */
+    /* PACKAGE PRIVATE */ synchronized void stop() {
+        if (monitor != null)
+            monitor.shutdownNow();
+        // ...
+        monitor = null;
+    }
+
+    /**
+     * Marks start of the invocation on the main thread. Returned {@link Inflight} must be passed to {@link #exit(Inflight)}.
+     */
+    /* PACKAGE PRIVATE */ @NotNull Inflight enter(final @NotNull RootCommandContext context, final @NotNull Kind kind) {
+        final Inflight inflight = new Inflight(context, kind, Thread.currentThread(), System.nanoTime(), current);
+        // ...
+        current = inflight;
+        // ...
+        return inflight;
+    }
+
+    /**
+     * Marks end of the invocation. Records the finding if invocation exceeded the budget.
+     */
+    /* PACKAGE PRIVATE */ void exit(final @NotNull Inflight inflight) {
+        final long nanos = System.nanoTime() - inflight.start;
+        // Restoring outer invocation, in case commands were nested...
+        current = inflight.outer;
+        // ...
+        if (nanos < budgetNanos)
+            return;
+        // ...
+        final RootCommandContext context = inflight.context;
+        final Key key = new Key(context.getCommand().getName(), inflight.kind);
+        // ...
+        aggregates.computeIfAbsent(key, (___) -> new Aggregate()).record(nanos, context.getInput().getInput(), context.getExecutor().asCommandSender().getName(), inflight.stack);
+    }
+
+    // Captures stack of the main thread if current invocation exceeded the stall threshold.
+    private void sample() {
+        final @Nullable Inflight inflight = current;
+        // ...
+        if (inflight == null || inflight.stack != null || System.nanoTime() - inflight.start < stallThresholdNanos)
+            return;
+        // ...
+        final StackTraceElement[] stack = inflight.thread.getStackTrace();
+        // Discarding the stack if invocation has exited (or a nested one has started) while it was being captured, as it would describe unrelated code.
+        if (current == inflight)
+            inflight.stack = stack;
+    }
+
+    // Logs findings recorded since the last report.
+    private void report(final @NotNull Logger logger) {
+        final StringBuilder builder = new StringBuilder();
+        // ...
+        aggregates.forEach((key, aggregate) -> aggregate.drain(key, builder));
+        // ...
+        if (builder.isEmpty() == false)
+            logger.log(Level.WARNING, "Commands exceeding the budget of " + budget.toMillis() + "ms in the last " + reportInterval.toSeconds() + "s:" + builder);
+    }
+
+    /**
+     * Kind of the invocation.
+     */
+    public enum Kind {
+        EXECUTE, TAB_COMPLETE
+    }
+
+    /**
+     * Immutable snapshot of findings for a single command.
+     *
+     * @param command Name of the command.
+     * @param kind Kind of the invocation.
+     * @param count Number of invocations that exceeded the budget.
+     * @param maxNanos Duration of the slowest invocation, in nanoseconds.
+     * @param input Input of the slowest invocation.
+     * @param sender Name of the sender of the slowest invocation.
+     * @param stallStack Main thread stack captured during the last stalled invocation, or {@code null} if none has stalled.
+     */
+    public record Finding(@NotNull String command, @NotNull Kind kind, long count, long maxNanos, @NotNull String input, @NotNull String sender, StackTraceElement @Nullable [] stallStack) { /* DATA */ }
+
+    /**
+     * Invocation running on the main thread.
+     */
+    /* PACKAGE PRIVATE */ static final class Inflight {
+
+        private final RootCommandContext context;
+        private final Kind kind;
+        private final Thread thread;
+        private final long start;
+        private final @Nullable Inflight outer;
+
+        // Written by the monitor thread.
+        private volatile StackTraceElement @Nullable [] stack;
+
+        private Inflight(final @NotNull RootCommandContext context, final @NotNull Kind kind, final @NotNull Thread thread, final long start, final @Nullable Inflight outer) {
+            this.context = context;
+            this.kind = kind;
+            this.thread = thread;
+            this.start = start;
+            this.outer = outer;
+        }
+
+    }
+
+    private record Key(String command, Kind kind) { /* DATA */ }
+
+    /**
+     * Findings aggregated for a single command. Updated only for invocations exceeding the budget, so contention is negligible.
+     */
+    private static final class Aggregate {
+
+        private long count;
+        private long countSinceReport;
+        private long maxNanos;
+        private long maxNanosSinceReport;
+        private String input = "";
+        private String sender = "";
+        private StackTraceElement @Nullable [] stallStack;
+        private boolean newStall;
+
+        synchronized void record(final long nanos, final @NotNull String input, final @NotNull String sender, final StackTraceElement @Nullable [] stack) {
+            count++;
+            countSinceReport++;
+            // Keeping input and sender of the slowest invocation...
+            if (nanos > maxNanos) {
+                this.maxNanos = nanos;
+                this.input = input;
+                this.sender = sender;
+            }
+            maxNanosSinceReport = Math.max(maxNanosSinceReport, nanos);
+            // ...
+            if (stack != null) {
+                this.stallStack = stack;
+                this.newStall = true;
+            }
+        }
+
+        synchronized @NotNull Finding snapshot(final @NotNull Key key) {
+            return new Finding(key.command, key.kind, count, maxNanos, input, sender, stallStack);
+        }
+
+        synchronized void drain(final @NotNull Key key, final @NotNull StringBuilder builder) {
+            if (countSinceReport == 0)
+                return;
+            // ...
+            builder.append("\n  ").append(key.command).append(" (").append(key.kind).append("): ")
+                    .append(countSinceReport).append("x, max ").append(TimeUnit.NANOSECONDS.toMillis(maxNanosSinceReport)).append("ms")
+                    .append(", slowest ever: '").append(input).append("' by ").append(sender);
+            // Including stack of the main thread only once for each new stall...
+            if (newStall == true && stallStack != null) {
+                builder.append("\n    Main thread stack during stall:");
+                // ...
+                for (final StackTraceElement element : stallStack)
+                    builder.append("\n      at ").append(element);
+            }
+            countSinceReport = 0;
+            maxNanosSinceReport = 0;
+            newStall = false;
+        }
+
+    }
+
+}
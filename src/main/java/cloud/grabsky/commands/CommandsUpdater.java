@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands;
+
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * {@link CommandsUpdater} re-sends command tree to online players after commands have been registered at runtime.
+ * <ul>
+ *     <li>Requests made before the pass reaches a player are coalesced, so each player is updated at most once per pass.</li>
+ *     <li>Players are updated in small portions spread across multiple ticks, as each update rebuilds the whole command tree.</li>
+ * </ul>
+ * Must be accessed from the main thread only.
+ */
+/* PACKAGE PRIVATE */ final class CommandsUpdater {
+
+    // Number of players which command tree is re-sent to, per tick.
+    private static final int PLAYERS_PER_TICK = 10;
+
+    private final Plugin plugin;
+
+    // Players awaiting an update, in order of request.
+    private final Set<UUID> pending = new LinkedHashSet<>();
+
+    // Scheduled while there are players awaiting an update.
+    private @Nullable BukkitTask task;
+
+    /* PACKAGE PRIVATE */ CommandsUpdater(final @NotNull Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Requests command tree to be re-sent to all online players. Update begins on the next tick, so requests made within the same tick are coalesced.
+     */
+    /* PACKAGE PRIVATE */ void request() {
+        for (final Player player : plugin.getServer().getOnlinePlayers())
+            pending.add(player.getUniqueId());
+        // Scheduling the task, unless already scheduled or there is nobody to update.
+        if (task == null && pending.isEmpty() == false)
+            task = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * Cancels the scheduled task, if any, and discards pending updates.
+     */
+    /* PACKAGE PRIVATE */ void cancel() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        pending.clear();
+    }
+
+    private void tick() {
+        final Iterator<UUID> iterator = pending.iterator();
+        // Updating next portion of players...
+        for (int i = 0; i < PLAYERS_PER_TICK && iterator.hasNext() == true; i++) {
+            final @Nullable Player player = plugin.getServer().getPlayer(iterator.next());
+            iterator.remove();
+            // Players who left in the meantime are skipped. Joining players receive up-to-date tree anyway.
+            if (player != null)
+                player.updateCommands();
+        }
+        // Cancelling the task once everyone has been updated.
+        if (pending.isEmpty() == true && task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+}
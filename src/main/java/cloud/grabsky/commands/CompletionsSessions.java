@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands;
+
+import cloud.grabsky.commands.component.CompletionsIndex;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CompletionsSessions} keeps the last completion result of each player, so subsequent request extending the input
+ * of the same argument can be answered by narrowing that result, instead of calling the provider again.
+ * <br />
+ * <br />
+ * Only one session is kept per player. Sessions expire after being idle for {@value #IDLE_TIMEOUT_MILLIS}ms and are removed
+ * when player disconnects. Results larger than {@value #MAX_RESULT_SIZE} elements are not kept.
+ */
+/* PACKAGE PRIVATE */ final class CompletionsSessions implements Listener {
+
+    /* PACKAGE PRIVATE */ static final long IDLE_TIMEOUT_MILLIS = 5_000L;
+
+    /* PACKAGE PRIVATE */ static final int MAX_RESULT_SIZE = 1024;
+
+    private static final long IDLE_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(IDLE_TIMEOUT_MILLIS);
+
+    private final Map<UUID, Session> sessions = new ConcurrentHashMap<>();
+
+    private volatile long lastSweep = System.nanoTime();
+
+    /**
+     * Returns previous result narrowed to specified input, or {@code null} if there is no session this request can be answered from.
+     */
+    /* PACKAGE PRIVATE */ @Nullable List<String> narrow(final @NotNull UUID uniqueId, final @NotNull String alias, final @NotNull String[] args) {
+        final @Nullable Session session = sessions.get(uniqueId);
+        // ...
+        if (session == null)
+            return null;
+        // Expiring idle session...
+        if (System.nanoTime() - session.time >= IDLE_TIMEOUT_NANOS) {
+            sessions.remove(uniqueId, session);
+            return null;
+        }
+        final String input = args[args.length - 1];
+        final String foldedInput = input.toLowerCase(Locale.ROOT);
+        // Narrowing is possible only for the same argument of the same command, and only when input extends the previous one.
+        if (session.alias.equals(alias) == false || Arrays.equals(session.preceding, 0, session.preceding.length, args, 0, args.length - 1) == false || foldedInput.startsWith(session.foldedInput) == false)
+            return null;
+        // Returning previous result as-is when input did not change...
+        if (foldedInput.length() == session.foldedInput.length())
+            return session.result;
+        // ...
+        final List<String> narrowed = new ArrayList<>(session.result.size());
+        // ...
+        for (final String completion : session.result)
+            if (matches(session.index, completion, input) == true)
+                narrowed.add(completion);
+        // Replacing session with the narrowed one...
+        sessions.put(uniqueId, new Session(alias, session.preceding, foldedInput, session.index, narrowed, System.nanoTime()));
+        // ...
+        return narrowed;
+    }
+
+    /**
+     * Starts new session for specified player, replacing the previous one. Passing {@code null} result ends the session.
+     */
+    /* PACKAGE PRIVATE */ void update(final @NotNull UUID uniqueId, final @NotNull String alias, final @NotNull String[] args, final @Nullable CompletionsIndex index, final @Nullable List<String> result) {
+        final long now = System.nanoTime();
+        // Removing sessions of players that stopped typing...
+        if (now - lastSweep >= IDLE_TIMEOUT_NANOS) {
+            lastSweep = now;
+            sessions.values().removeIf(session -> now - session.time >= IDLE_TIMEOUT_NANOS);
+        }
+        // Not keeping results that are missing or too large...
+        if (result == null || result.size() > MAX_RESULT_SIZE) {
+            sessions.remove(uniqueId);
+            return;
+        }
+        // ...
+        final String[] preceding = Arrays.copyOf(args, args.length - 1);
+        // ...
+        sessions.put(uniqueId, new Session(alias, preceding, args[args.length - 1].toLowerCase(Locale.ROOT), index, result, now));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final @NotNull PlayerQuitEvent event) {
+        sessions.remove(event.getPlayer().getUniqueId());
+    }
+
+    // Matches the same way RootCommandManager filters completions; using the index when result was produced by one.
+    private static boolean matches(final @Nullable CompletionsIndex index, final @NotNull String completion, final @NotNull String input) {
+        return (index != null)
+                ? index.matches(completion, input)
+                : completion.toLowerCase(Locale.ROOT).contains(input.toLowerCase(Locale.ROOT));
+    }
+
+    private record Session(String alias, String[] preceding, String foldedInput, @Nullable CompletionsIndex index, List<String> result, long time) { /* DATA */ }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link CompletionsThrottle} limits how often completions can be requested by a single player.
+ * <ul>
+ *     <li>Request identical to the previous one, made within the interval, is answered with the previous result.</li>
+ *     <li>Requests exceeding the limit within the interval are dropped and answered with no completions.</li>
+ * </ul>
+ * Throttle can be enabled using {@link RootCommandManager#setCompletionsThrottle(CompletionsThrottle)}.
+ */
+public final class CompletionsThrottle implements Listener {
+
+    @Getter(AccessLevel.PUBLIC)
+    private final int maxRequests;
+
+    @Getter(AccessLevel.PUBLIC)
+    private final @NotNull Duration interval;
+
+    private final long intervalNanos;
+    private final Map<UUID, State> states = new ConcurrentHashMap<>();
+
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private CompletionsThrottle(final int maxRequests, final @NotNull Duration interval) {
+        this.maxRequests = maxRequests;
+        this.interval = interval;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    /**
+     * Creates {@link CompletionsThrottle} allowing at most {@code maxRequests} completion requests per player within specified {@link Duration interval}.
+     *
+     * @throws IllegalArgumentException if {@code maxRequests} is lower than {@code 1} or {@code interval} is not positive.
+     */
+    public static @NotNull CompletionsThrottle of(final int maxRequests, final @NotNull Duration interval) throws IllegalArgumentException {
+        if (maxRequests < 1)
+            throw new IllegalArgumentException("Maximum number of requests must be greater than 0.");
+        // ...
+        if (interval.isNegative() == true || interval.isZero() == true)
+            throw new IllegalArgumentException("Interval must be positive.");
+        // ...
+        return new CompletionsThrottle(maxRequests, interval);
+    }
+
+    /**
+     * Returns number of requests answered with result of the previous, identical request.
+     */
+    public long getDeduplicated() {
+        return deduplicated.sum();
+    }
+
+    /**
+     * Returns number of requests dropped due to exceeding the limit.
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns total number of suppressed requests; both deduplicated and dropped.
+     */
+    public long getSuppressed() {
+        return deduplicated.sum() + dropped.sum();
+    }
+
+    /**
+     * Returns completions that request should be answered with, or {@code null} if request should be handled normally.
+     */
+    /* PACKAGE PRIVATE */ @Nullable List<String> check(final @NotNull UUID uniqueId, final @NotNull String alias, final @NotNull String[] args) {
+        final State state = states.computeIfAbsent(uniqueId, (___) -> new State());
+        final long now = System.nanoTime();
+        // ...
+        synchronized (state) {
+            // Answering identical consecutive request with the previous result...
+            if (state.lastResult != null && now - state.lastTime < intervalNanos && alias.equals(state.lastAlias) == true && Arrays.equals(args, state.lastArgs) == true) {
+                deduplicated.increment();
+                return state.lastResult;
+            }
+            // Starting new window...
+            if (now - state.windowStart >= intervalNanos) {
+                state.windowStart = now;
+                state.count = 0;
+            }
+            // Dropping requests over the limit...
+            if (state.count >= maxRequests) {
+                dropped.increment();
+                return cloud.grabsky.commands.util.Arrays.EMPTY_STRING_LIST;
+            }
+            // ...
+            state.count++;
+            return null;
+        }
+    }
+
+    /**
+     * Records result of the request, so it can be re-used by subsequent identical request.
+     */
+    /* PACKAGE PRIVATE */ void record(final @NotNull UUID uniqueId, final @NotNull String alias, final @NotNull String[] args, final @NotNull List<String> result) {
+        final @Nullable State state = states.get(uniqueId);
+        // ...
+        if (state == null)
+            return;
+        // ...
+        synchronized (state) {
+            state.lastAlias = alias;
+            state.lastArgs = args;
+            state.lastResult = result;
+            state.lastTime = System.nanoTime();
+        }
+    }
+
+    /**
+     * Reverts the request previously allowed by {@link #check}. Used when request is going to be handled again, from the main thread.
+     */
+    /* PACKAGE PRIVATE */ void refund(final @NotNull UUID uniqueId) {
+        final @Nullable State state = states.get(uniqueId);
+        // ...
+        if (state == null)
+            return;
+        // ...
+        synchronized (state) {
+            state.count = Math.max(0, state.count - 1);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final @NotNull PlayerQuitEvent event) {
+        states.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Represents throttling state of a single player.
+     */
+    private static final class State {
+
+        private long windowStart = System.nanoTime();
+        private int count = 0;
+
+        private @Nullable String lastAlias;
+        private @Nullable String[] lastArgs;
+        private @Nullable List<String> lastResult;
+        private long lastTime;
+
+    }
+
+}
@@ -0,0 +1,203 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@link ErrorReporter} reports unexpected exceptions thrown by commands. Exceptions are grouped by their stack signature and
+ * written by a background thread, so a command failing repeatedly cannot stall the main thread with identical stack traces.
+ * <ul>
+ *     <li>Full stack trace is written for the first occurrence and then for every n-th occurrence, as configured by the sampling rate.</li>
+ *     <li>Remaining occurrences are summarized periodically, with counts and first/last seen times.</li>
+ * </ul>
+ */
+/* PACKAGE PRIVATE */ final class ErrorReporter {
+
+    // Number of stack frames, counting from the top, that make up the signature.
+    private static final int SIGNATURE_DEPTH = 8;
+
+    // Number of causes included in the signature.
+    private static final int SIGNATURE_CAUSES = 4;
+
+    private static final long SUMMARY_INTERVAL_SECONDS = 60L;
+
+    // Maximum time to wait for queued stack traces to be written upon shutdown.
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 1L;
+
+    private final Logger logger;
+    private final Map<String, Group> groups = new ConcurrentHashMap<>();
+
+    private volatile int sampleRate = 100;
+
+    // Created on first error, as most of the time there is nothing to report.
+    private @Nullable ScheduledThreadPoolExecutor writer;
+
+    // Errors reported after shutdown are written on the calling thread.
+    private boolean shutdown = false;
+
+    /* PACKAGE PRIVATE */ ErrorReporter(final @NotNull Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Sets how often full stack trace is written. Value of {@code n} means every n-th occurrence of the same error is written in full.
+     */
+    /* PACKAGE PRIVATE */ void setSampleRate(final int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    /* PACKAGE PRIVATE */ int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Reports specified exception thrown while executing specified command. Returns immediately.
+     */
+    /* PACKAGE PRIVATE */ void report(final @NotNull String command, final @NotNull String input, final @NotNull Throwable thrown) {
+        final String signature = signature(thrown);
+        // ...
+        final Group group = groups.computeIfAbsent(signature, (___) -> new Group(thrown.getClass().getName(), command));
+        final long count = group.record();
+        // Writing full stack trace for the first and every n-th occurrence...
+        if (count == 1 || count % sampleRate == 0) {
+            group.sinceSummary.set(0);
+            // ...
+            final Runnable task = () -> logger.log(Level.SEVERE, "Unexpected error occurred while executing '" + input + "' (occurrence #" + count + ", first seen " + Instant.ofEpochMilli(group.firstSeen) + ")", thrown);
+            final @Nullable ScheduledThreadPoolExecutor writer = this.writer();
+            // ...
+            if (writer != null)
+                writer.execute(task);
+            else task.run();
+        }
+    }
+
+    /**
+     * Stops the writer thread. Queued stack traces and summary of remaining occurrences are written on the calling thread.
+     */
+    /* PACKAGE PRIVATE */ synchronized void shutdown() {
+        shutdown = true;
+        // ...
+        if (writer != null) {
+            // Letting stack traces that were queued to be written. Periodic summary is cancelled upon shutdown.
+            writer.shutdown();
+            // ...
+            try {
+                if (writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS) == false)
+                    writer.shutdownNow();
+            } catch (final InterruptedException e) {
+                writer.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+            writer = null;
+            // Writing occurrences that would otherwise be summarized later...
+            this.summarize();
+        }
+    }
+
+    // Returns writer, creating it on first use, or null if reporter has been shut down.
+    private synchronized @Nullable ScheduledThreadPoolExecutor writer() {
+        if (shutdown == true)
+            return null;
+        // ...
+        if (writer == null) {
+            writer = new ScheduledThreadPoolExecutor(1, (runnable) -> {
+                final Thread thread = new Thread(runnable, "commands-error-reporter");
+                thread.setDaemon(true);
+                return thread;
+            });
+            // ...
+            writer.scheduleAtFixedRate(this::summarize, SUMMARY_INTERVAL_SECONDS, SUMMARY_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        }
+        return writer;
+    }
+
+    // Writes summary of occurrences that were not written in full since the last summary.
+    private void summarize() {
+        groups.forEach((signature, group) -> {
+            final long sinceSummary = group.sinceSummary.getAndSet(0);
+            // ...
+            if (sinceSummary > 0)
+                logger.log(Level.SEVERE, "Unexpected error " + group.type + " in '" + group.command + "' occurred " + sinceSummary + " more time(s) (total " + group.count.get() + ", first seen " + Instant.ofEpochMilli(group.firstSeen) + ", last seen " + Instant.ofEpochMilli(group.lastSeen) + ")");
+        });
+    }
+
+    // Returns signature of specified exception, consisting of its type and top stack frames, including those of its causes.
+    private static @NotNull String signature(final @NotNull Throwable thrown) {
+        final StringBuilder builder = new StringBuilder();
+        // ...
+        Throwable current = thrown;
+        // ...
+        for (int causes = 0; current != null && causes <= SIGNATURE_CAUSES; current = current.getCause(), causes++) {
+            builder.append(current.getClass().getName()).append('|');
+            // ...
+            final StackTraceElement[] stack = current.getStackTrace();
+            // ...
+            for (int i = 0; i < Math.min(SIGNATURE_DEPTH, stack.length); i++)
+                builder.append(stack[i].getClassName()).append('#').append(stack[i].getMethodName()).append(':').append(stack[i].getLineNumber()).append('|');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Occurrences of errors sharing the same signature.
+     */
+    private static final class Group {
+
+        private final String type;
+        private final String command;
+
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong sinceSummary = new AtomicLong();
+
+        private final long firstSeen = System.currentTimeMillis();
+        private volatile long lastSeen;
+
+        private Group(final @NotNull String type, final @NotNull String command) {
+            this.type = type;
+            this.command = command;
+        }
+
+        // Records an occurrence and returns total number of occurrences.
+        private long record() {
+            lastSeen = System.currentTimeMillis();
+            sinceSummary.incrementAndGet();
+            // ...
+            return count.incrementAndGet();
+        }
+
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands;
+
+import cloud.grabsky.commands.component.CompletionsIndex;
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerHideEntityEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerShowEntityEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * {@link OnlineIndex} keeps online players and loaded worlds indexed by their case-folded names. Indexes are maintained
+ * by join, quit, world load and world unload listeners and replaced as a whole on each change, which makes lookups
+ * allocation-free and safe to perform off the main thread.
+ * <br />
+ * <br />
+ * Visibility of players is tracked using {@link PlayerHideEntityEvent} and {@link PlayerShowEntityEvent}, so it can be answered
+ * without calling {@link Player#canSee(Entity)} for every player.
+ */
+@Internal
+public final class OnlineIndex implements Listener {
+
+    private volatile Snapshot<Player> players;
+    private volatile Snapshot<World> worlds;
+
+    // Viewer UUID to UUIDs of entities hidden from that viewer.
+    private final Map<UUID, Set<UUID>> hidden = new ConcurrentHashMap<>();
+
+    /* PACKAGE PRIVATE */ OnlineIndex() {
+        this.players = Snapshot.of(Bukkit.getOnlinePlayers(), Player::getName);
+        this.worlds = Snapshot.of(Bukkit.getWorlds(), (world) -> world.key().asString());
+        // Collecting visibility state of players that are already online...
+        for (final Player viewer : Bukkit.getOnlinePlayers())
+            for (final Player target : Bukkit.getOnlinePlayers())
+                if (viewer.canSee(target) == false)
+                    this.hidden(viewer.getUniqueId()).add(target.getUniqueId());
+    }
+
+    /**
+     * Returns online {@link Player} with specified name, or {@code null} if no such player is online. Case-insensitive.
+     */
+    public @Nullable Player getPlayer(final @NotNull String name) {
+        return players.values.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns names of all online players, including those hidden from any viewer.
+     */
+    public @NotNull CompletionsIndex getPlayerNames() {
+        return players.names;
+    }
+
+    /**
+     * Returns {@code true} if specified target is not hidden from specified viewer.
+     */
+    public boolean canSee(final @NotNull Player viewer, final @NotNull Player target) {
+        final @Nullable Set<UUID> hiddenFromViewer = hidden.get(viewer.getUniqueId());
+        // ...
+        return hiddenFromViewer == null || hiddenFromViewer.contains(target.getUniqueId()) == false;
+    }
+
+    /**
+     * Returns loaded {@link World} with specified key, or {@code null} if no such world is loaded.
+     */
+    public @Nullable World getWorld(final @NotNull NamespacedKey key) {
+        return worlds.values.get(key.asString());
+    }
+
+    /**
+     * Returns keys of all loaded worlds.
+     */
+    public @NotNull CompletionsIndex getWorldNames() {
+        return worlds.names;
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(final @NotNull PlayerJoinEvent event) {
+        players = Snapshot.of(Bukkit.getOnlinePlayers(), Player::getName);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final @NotNull PlayerQuitEvent event) {
+        final UUID uniqueId = event.getPlayer().getUniqueId();
+        // Player is still considered online during PlayerQuitEvent and must be excluded manually.
+        players = Snapshot.of(Bukkit.getOnlinePlayers().stream().filter((player) -> player.getUniqueId().equals(uniqueId) == false).toList(), Player::getName);
+        // ...
+        hidden.remove(uniqueId);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerHideEntity(final @NotNull PlayerHideEntityEvent event) {
+        this.hidden(event.getPlayer().getUniqueId()).add(event.getEntity().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerShowEntity(final @NotNull PlayerShowEntityEvent event) {
+        final @Nullable Set<UUID> hiddenFromViewer = hidden.get(event.getPlayer().getUniqueId());
+        // ...
+        if (hiddenFromViewer != null)
+            hiddenFromViewer.remove(event.getEntity().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldLoad(final @NotNull WorldLoadEvent event) {
+        worlds = Snapshot.of(Bukkit.getWorlds(), (world) -> world.key().asString());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(final @NotNull WorldUnloadEvent event) {
+        final NamespacedKey key = event.getWorld().getKey();
+        // World is still loaded during WorldUnloadEvent and must be excluded manually.
+        worlds = Snapshot.of(Bukkit.getWorlds().stream().filter((world) -> world.getKey().equals(key) == false).toList(), (world) -> world.key().asString());
+    }
+
+    private @NotNull Set<UUID> hidden(final @NotNull UUID viewer) {
+        return hidden.computeIfAbsent(viewer, (___) -> ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * Immutable mapping of case-folded names to values, along with sorted index of these names.
+     */
+    private record Snapshot<T>(Map<String, T> values, CompletionsIndex names) {
+
+        static <T> @NotNull Snapshot<T> of(final @NotNull Collection<? extends T> elements, final @NotNull Function<T, String> name) {
+            final Map<String, T> values = new HashMap<>(elements.size() * 2);
+            // ...
+            for (final T element : elements)
+                values.put(name.apply(element).toLowerCase(Locale.ROOT), element);
+            // ...
+            return new Snapshot<>(Map.copyOf(values), CompletionsIndex.of(values.values().stream().map(name).toList(), CompletionsIndex.Mode.CONTAINS));
+        }
+
+    }
+
+}
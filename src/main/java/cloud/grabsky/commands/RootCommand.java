@@ -28,6 +28,7 @@ import cloud.grabsky.commands.component.CompletionsProvider;
 import cloud.grabsky.commands.exception.CommandLogicException;
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
@@ -72,6 +73,38 @@ public abstract class RootCommand {
     @Getter(AccessLevel.PUBLIC)
     private @Nullable String description;
 
+    // Whether command should be executed on a virtual thread. Must be set before the command is registered.
+    @Getter(AccessLevel.PUBLIC) @Setter(AccessLevel.PROTECTED)
+    private boolean async;
+
+    // Deadline (in milliseconds) of asynchronous command execution. Values lower than or equal to 0 disable the deadline.
+    @Getter(AccessLevel.PUBLIC) @Setter(AccessLevel.PROTECTED)
+    private long timeout;
+
+    // Whether completions can be computed off the main thread. Must be set before the command is registered.
+    @Getter(AccessLevel.PUBLIC) @Setter(AccessLevel.PROTECTED)
+    private boolean asyncCompletions;
+
+    // Applies metadata specified within @Command annotation. Called before dependencies are injected.
+    /* PACKAGE PRIVATE */ void setMetadata(final @NotNull String name, final @NotNull List<String> aliases, final @NotNull String permission, final @NotNull String usage, final @NotNull String description, final boolean async, final long timeout, final boolean asyncCompletions) {
+        this.name = name;
+        this.aliases = aliases;
+        this.permission = permission;
+        this.usage = usage;
+        this.description = description;
+        this.async = async;
+        this.timeout = timeout;
+        this.asyncCompletions = asyncCompletions;
+    }
+
+    /**
+     * Returns {@link CommandTree} defining subcommands of this command, or {@code null} if subcommands are handled manually.
+     * This method is called once, when command is being registered.
+     */
+    public @Nullable CommandTree createTree() {
+        return null; // Commands have no subcommand tree by default.
+    }
+
     /**
      * Handles command completions/suggestions that pop-up for the client.
      *
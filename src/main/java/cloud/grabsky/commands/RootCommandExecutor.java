@@ -32,17 +32,24 @@ import org.bukkit.permissions.Permissible;
 import org.jetbrains.annotations.NotNull;
 
 import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
+import lombok.AllArgsConstructor;
 import lombok.experimental.Delegate;
 
 /**
  * {@link RootCommandExecutor} represents command executor.
  */
-@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
 public final class RootCommandExecutor implements Audience, Permissible {
 
     @Delegate(types = {Audience.class, Permissible.class})
-    private final CommandSender sender;
+    private CommandSender sender;
+
+    /**
+     * Re-initializes this {@link RootCommandExecutor} with specified {@link CommandSender}.
+     */
+    /* PACKAGE PRIVATE */ void reset(final CommandSender sender) {
+        this.sender = sender;
+    }
 
     /**
      * Returns underlying command executor {@link CommandSender}.
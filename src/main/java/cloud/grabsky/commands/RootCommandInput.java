@@ -36,46 +36,102 @@ import org.jetbrains.annotations.UnknownNullability;
 public final class RootCommandInput {
 
     @Getter(AccessLevel.PUBLIC)
-    private final String input;
-
-    @Getter(AccessLevel.PUBLIC)
-    private final String label;
+    private String label;
 
     @Accessors(fluent = true)
     @Getter(AccessLevel.PUBLIC)
-    private final int length;
+    private int length;
 
     @Accessors(fluent = true)
     @Getter(AccessLevel.PUBLIC)
-    private final int maxIndex;
+    private int maxIndex;
+
+    // NOTE: Raw arguments are stored as-is. Empty elements are skipped when accessed.
+    private String[] arguments;
 
-    private final String[] arguments;
+    // NOTE: Non-empty arguments, for indexed access. Same as raw arguments unless these contain empty elements, in which case it is computed lazily.
+    private @Nullable String[] compacted;
+
+    // NOTE: Joined input is computed lazily as most commands never access it.
+    private @Nullable String input;
 
     /* PACKAGE PRIVATE */ RootCommandInput(final @NotNull String label, final @NotNull String[] rawArguments) {
+        this.reset(label, rawArguments);
+    }
+
+    /**
+     * Re-initializes this {@link RootCommandInput} with specified label and arguments.
+     */
+    /* PACKAGE PRIVATE */ void reset(final @NotNull String label, final @NotNull String[] rawArguments) {
         this.label = label;
-        this.input = toStringInput(label, rawArguments);
-        this.arguments = this.input.split(" ");
-        this.length = arguments.length;
-        this.maxIndex = Math.max(0, arguments.length - 1);
+        this.arguments = rawArguments;
+        this.input = null;
+        // Counting non-empty arguments. Label is always present at index 0.
+        int length = 1;
+        for (final String argument : rawArguments)
+            if (argument != null && argument.isEmpty() == false)
+                length++;
+        // ...
+        this.length = length;
+        this.maxIndex = length - 1;
+        // Re-using raw arguments when there is nothing to skip, which is the most common case.
+        this.compacted = (length - 1 == rawArguments.length) ? rawArguments : null;
+    }
+
+    /**
+     * Returns raw arguments, as supplied by the server. Returned array must not be modified.
+     */
+    /* PACKAGE PRIVATE */ @NotNull String[] getRawArguments() {
+        return arguments;
+    }
+
+    /**
+     * Returns full input, consisting of label and all non-empty arguments, separated by space.
+     */
+    public @NotNull String getInput() {
+        if (input == null)
+            input = toStringInput(label, arguments);
+        // ...
+        return input;
     }
 
     /**
      * Returns {@link String} argument at specified index, or {@code null} if out of bounds.
      */
     public @Nullable String at(final int index) {
-        return (index < arguments.length) ? arguments[index] : null;
+        return this.at(index, null);
     }
 
     /**
      * Returns {@link String} argument at specified index, or provided {@code def} if out of bounds.
      */
     public @UnknownNullability String at(final int index, final @Nullable String def) {
-        return (index < arguments.length) ? arguments[index] : def;
+        if (index == 0)
+            return label;
+        // Skipping empty arguments, to stay consistent with the joined input.
+        final String[] compacted = this.getCompactedArguments();
+        // ...
+        return (index > 0 && index <= compacted.length) ? compacted[index - 1] : def;
+    }
+
+    // Returns non-empty arguments. Computed on first call, only if raw arguments contain empty elements.
+    private @NotNull String[] getCompactedArguments() {
+        if (compacted == null) {
+            final String[] result = new String[length - 1];
+            // ...
+            int i = 0;
+            for (final String argument : arguments)
+                if (argument != null && argument.isEmpty() == false)
+                    result[i++] = argument;
+            // ...
+            compacted = result;
+        }
+        return compacted;
     }
 
     @Override
     public String toString() {
-        return input;
+        return this.getInput();
     }
 
     /* STATIC HELPERS */
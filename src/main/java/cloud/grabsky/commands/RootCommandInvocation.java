@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands;
+
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link RootCommandInvocation} holds {@link RootCommandContext} and {@link ArgumentQueue} that
+ * are re-used between subsequent invocations of the same {@link RootCommand}.
+ *
+ * @apiNote Instance can be acquired only from the main thread and only by one invocation at a time.
+ */
+/* PACKAGE PRIVATE */ final class RootCommandInvocation {
+
+    private static final String[] EMPTY_ARGUMENTS = new String[0];
+
+    /* PACKAGE PRIVATE */ final RootCommandContext context;
+    /* PACKAGE PRIVATE */ final ArgumentQueue queue;
+
+    private boolean acquired = false;
+
+    /* PACKAGE PRIVATE */ RootCommandInvocation(final @NotNull RootCommandManager manager, final @NotNull RootCommand command) {
+        this.context = new RootCommandContext(manager, command, new RootCommandExecutor(null), new RootCommandInput("", EMPTY_ARGUMENTS));
+        this.queue = new ArgumentQueue(context, EMPTY_ARGUMENTS, true);
+    }
+
+    /**
+     * Returns {@code true} if this {@link RootCommandInvocation} has been acquired and initialized with specified values.
+     * Returns {@code false} if called off the main thread or when already in use, for example by a nested invocation.
+     */
+    /* PACKAGE PRIVATE */ boolean acquire(final @NotNull CommandSender sender, final @NotNull String label, final @NotNull String[] arguments) {
+        if (acquired == true || Bukkit.isPrimaryThread() == false)
+            return false;
+        // ...
+        acquired = true;
+        // ...
+        context.getExecutor().reset(sender);
+        context.getInput().reset(label, arguments);
+        queue.reset(arguments);
+        // ...
+        return true;
+    }
+
+    /**
+     * Releases this {@link RootCommandInvocation} and clears references to values of the last invocation.
+     */
+    /* PACKAGE PRIVATE */ void release() {
+        context.getExecutor().reset(null);
+        context.getInput().reset("", EMPTY_ARGUMENTS);
+        queue.reset(EMPTY_ARGUMENTS);
+        // ...
+        acquired = false;
+    }
+
+}
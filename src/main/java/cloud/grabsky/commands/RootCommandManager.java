@@ -43,11 +43,12 @@ import cloud.grabsky.commands.argument.UUIDArgument;
 import cloud.grabsky.commands.argument.WorldArgument;
 import cloud.grabsky.commands.component.ArgumentParser;
 import cloud.grabsky.commands.component.CompletionsProvider;
+import cloud.grabsky.commands.component.CompletionsSink;
 import cloud.grabsky.commands.component.ExceptionHandler;
 import cloud.grabsky.commands.exception.CommandLogicException;
 import cloud.grabsky.commands.exception.IncompatibleParserException;
 import cloud.grabsky.commands.util.Arrays;
-import cloud.grabsky.commands.util.Reflections;
+import com.destroystokyo.paper.event.server.AsyncTabCompleteEvent;
 import io.papermc.paper.math.Position;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -57,29 +58,41 @@ import org.bukkit.NamespacedKey;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.World;
 import org.bukkit.command.Command;
+import org.bukkit.command.CommandMap;
 import org.bukkit.command.CommandSender;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
-import static cloud.grabsky.commands.util.Arrays.toArrayList;
 import static net.kyori.adventure.text.Component.text;
 import static net.kyori.adventure.text.format.NamedTextColor.RED;
 
@@ -89,7 +102,7 @@ import static net.kyori.adventure.text.format.NamedTextColor.RED;
  */
 // TO-DO: Finish JavaDocs and GitHub documentation.
 // TO-DO: More testing and improvements based on Q/A results.
-public final class RootCommandManager {
+public final class RootCommandManager implements AutoCloseable {
 
     @Getter(AccessLevel.PUBLIC)
     private final Plugin plugin;
@@ -100,15 +113,74 @@ public final class RootCommandManager {
     private final Map<Class<?>, CompletionsProvider> completionsProviders;
     private final Map<Class<?>, Function<RootCommand, ?>> dependencies;
 
+    // Resolved parsers, providers and handlers, cached per requested type. Replaced whenever respective registry is modified.
+    private volatile ClassValue<Optional<ArgumentParser<?>>> argumentParsersCache;
+    private volatile ClassValue<Optional<CompletionsProvider>> completionsProvidersCache;
+    private volatile ClassValue<Optional<ExceptionHandler<?>>> exceptionHandlersCache;
+
+    @Getter(AccessLevel.PUBLIC)
+    private boolean reusingContexts = false;
+
+    @Getter(AccessLevel.PUBLIC)
+    private boolean lazyInstantiation = false;
+
+    private @Nullable AsyncCommandDispatcher asyncDispatcher;
+
+    // Registered commands by all their (lower-case) labels. Can be accessed from multiple threads.
+    private final Map<String, RegisteredCommand> labels = new ConcurrentHashMap<>();
+
+    @Getter(AccessLevel.PUBLIC)
+    private boolean asyncCompletions = false;
+
+    private @Nullable AsyncCompletionsListener asyncCompletionsListener;
+
+    @Getter(AccessLevel.PUBLIC)
+    private volatile @Nullable CompletionsThrottle completionsThrottle;
+
+    private volatile @Nullable CompletionsSessions completionsSessions;
+
+    @Getter(AccessLevel.PUBLIC)
+    private int completionsLimit = Integer.MAX_VALUE;
+
+    /**
+     * Index of online players and loaded worlds, maintained by listeners registered along with this {@link RootCommandManager}.
+     */
+    @Internal @Getter(AccessLevel.PUBLIC)
+    private final OnlineIndex onlineIndex;
+
+    @Getter(AccessLevel.PUBLIC)
+    private volatile boolean recordingMetrics = false;
+
+    @Getter(AccessLevel.PUBLIC)
+    private volatile @Nullable CommandWatchdog watchdog;
+
+    private final ErrorReporter errorReporter;
+
+    private final CommandsUpdater commandsUpdater;
+
+    @Getter(AccessLevel.PUBLIC)
+    private volatile @Nullable CommandAuditLog auditLog;
+
+    // Metrics of registered commands, by their names. Kept when command is registered again under the same name.
+    private final Map<String, CommandMetrics> metrics = new ConcurrentHashMap<>();
+
     private static final Component UNEXPECTED_ERROR = text("An unexpected error occurred while executing the command.", RED);
 
     public RootCommandManager(final Plugin plugin) {
         this.plugin = plugin;
-        this.commands = new HashSet<>();
+        this.commands = ConcurrentHashMap.newKeySet();
         this.argumentParsers = new HashMap<>();
         this.exceptionHandlers = new HashMap<>();
         this.completionsProviders = new HashMap<>();
         this.dependencies = new HashMap<>();
+        this.argumentParsersCache = createCache(argumentParsers);
+        this.completionsProvidersCache = createCache(completionsProviders);
+        this.exceptionHandlersCache = createCache(exceptionHandlers);
+        this.errorReporter = new ErrorReporter(plugin.getLogger());
+        this.commandsUpdater = new CommandsUpdater(plugin);
+        // Registering listeners responsible for maintaining the index...
+        this.onlineIndex = new OnlineIndex();
+        plugin.getServer().getPluginManager().registerEvents(onlineIndex, plugin);
         // java.lang.String
         this.setArgumentParser(String.class, StringArgument.LITERAL);
         // java.lang.Short
@@ -159,119 +231,506 @@ public final class RootCommandManager {
      * Registers command from specified {@link RootCommand} instance.
      */
     public RootCommandManager registerCommand(final @NotNull RootCommand rCommand) throws IllegalArgumentException {
-        final RootCommandManager that = this; // Can also be resolved using 'RootCommandManager.this' but this is shorter and looks cleaner
-
         if (rCommand.getName() == null || rCommand.getName().isEmpty() == true)
             throw new IllegalArgumentException("Command definition in class " + rCommand.getClass().getName() + " is unnamed.");
 
-        final Command bCommand = new Command(rCommand.getName()) {
+        // Registering org.bukkit.Command to the server...
+        this.register(new RegisteredCommand(rCommand), rCommand.getAliases(), rCommand.getPermission(), rCommand.getUsage(), rCommand.getDescription());
+        // Adding RootCommand to the command Set...
+        commands.add(rCommand);
+        // ...
+        return this;
+    }
 
-            @Override @SuppressWarnings({"unchecked", "rawtypes"})
-            public boolean execute(final @NotNull CommandSender sender, final @NotNull String label, final @NotNull String[] args) {
-                final RootCommandContext context = new RootCommandContext(that, rCommand, new RootCommandExecutor(sender), new RootCommandInput(label, args));
-                final ArgumentQueue queue = new ArgumentQueue(context, toArrayList(args));
-                // Handling the command... and exceptions it throws
-                try {
-                    rCommand.onCommand(context, queue);
-                    return true;
-                } catch (final CommandLogicException e) {
-                    final Class<? extends CommandLogicException> exceptionClass = e.getClass();
-                    // Handling exceptions using ExceptionHandler<T> registry
-                    if (e.isHandlerFinal() == false && that.getExceptionHandler(exceptionClass) != null) {
-                        ((ExceptionHandler) that.getExceptionHandler(exceptionClass)).handle(exceptionClass.cast(e), context); // should not be null; raw cast required for compilation
-                        return false;
-                    }
-                    // Handling exceptions using their Consumer<RootCommandContext>
-                    e.accept(context);
-                    return false;
-                } catch (final Throwable e) { // Handling any other exceptions...
-                    e.printStackTrace();
-                    sender.sendMessage(UNEXPECTED_ERROR);
-                    return false;
-                }
-            }
+    /**
+     * Registers commands from specified {@link Collection Collection&lt;RootCommand&gt;} at once. Either all commands are registered, or none of them.
+     * Command tree is then re-sent to online players, in portions spread across multiple ticks. Subsequent calls made before the update reaches a player are coalesced.
+     *
+     * @throws IllegalArgumentException when any of the commands is unnamed.
+     */
+    public RootCommandManager registerCommands(final @NotNull Collection<? extends RootCommand> rCommands) throws IllegalArgumentException {
+        // Validating all commands before anything is registered...
+        for (final RootCommand rCommand : rCommands)
+            if (rCommand.getName() == null || rCommand.getName().isEmpty() == true)
+                throw new IllegalArgumentException("Command definition in class " + rCommand.getClass().getName() + " is unnamed.");
+        // Preparing org.bukkit.Command for each command. Compiles subcommand trees, which may throw.
+        final List<RegisteredCommand> bCommands = new ArrayList<>(rCommands.size());
+        // ...
+        for (final RootCommand rCommand : rCommands)
+            bCommands.add(this.describe(new RegisteredCommand(rCommand), rCommand.getAliases(), rCommand.getPermission(), rCommand.getUsage(), rCommand.getDescription()));
+        // Registering all org.bukkit.Command instances to the server...
+        this.registerAll(bCommands);
+        // Re-sending command tree to online players, once...
+        commandsUpdater.request();
+        // ...
+        return this;
+    }
 
-            @Override
-            public @NotNull List<String> tabComplete(final @NotNull CommandSender sender, final @NotNull String alias, final @NotNull String @NotNull [] args) throws IllegalArgumentException {
-                // Disabling completions for invalid input
-                if (args.length > 1 && args[args.length - 2].isEmpty() == true) {
-                    return Arrays.EMPTY_STRING_LIST;
-                }
-                // Handling...
-                final RootCommandContext context = new RootCommandContext(RootCommandManager.this, rCommand, new RootCommandExecutor(sender), new RootCommandInput(alias, args));
-                try {
-                    return toFilteredList(rCommand.onTabComplete(context, args.length - 1).provide(context), args[args.length - 1]);
-                } catch (final CommandLogicException exc) {
-                    return Arrays.EMPTY_STRING_LIST;
-                }
-            }
+    /**
+     * Replaces commands registered under names of specified {@link RootCommand} instances. Commands that are not registered yet are registered instead.
+     * <p>
+     * Subcommand trees of all commands are compiled before anything is replaced, so either all commands are replaced, or none of them.
+     * Each command is then swapped in a single step, so invocations never observe a partially replaced command.
+     * Invocations that are already in progress, including asynchronous ones, complete using the previous implementation.
+     * Command tree is then re-sent to online players, in portions spread across multiple ticks.
+     *
+     * @throws IllegalArgumentException when any of the commands is unnamed.
+     */
+    public RootCommandManager replaceCommands(final @NotNull Collection<? extends RootCommand> rCommands) throws IllegalArgumentException {
+        // Validating all commands before anything is replaced...
+        for (final RootCommand rCommand : rCommands)
+            if (rCommand.getName() == null || rCommand.getName().isEmpty() == true)
+                throw new IllegalArgumentException("Command definition in class " + rCommand.getClass().getName() + " is unnamed.");
+        // Preparing replacements and new registrations. Compiles subcommand trees, which may throw.
+        final Map<RegisteredCommand, Binding> replacements = new LinkedHashMap<>();
+        final List<RegisteredCommand> additions = new ArrayList<>();
+        // ...
+        for (final RootCommand rCommand : rCommands) {
+            final @Nullable RegisteredCommand existing = labels.get(rCommand.getName().toLowerCase(Locale.ROOT));
+            // Commands are replaced by name. Registering as a new command in case no command with that name exists.
+            if (existing != null && existing.getName().equalsIgnoreCase(rCommand.getName()) == true)
+                replacements.put(existing, new Binding(rCommand));
+            else additions.add(this.describe(new RegisteredCommand(rCommand), rCommand.getAliases(), rCommand.getPermission(), rCommand.getUsage(), rCommand.getDescription()));
+        }
+        // Swapping implementations of existing commands...
+        replacements.forEach((bCommand, binding) -> {
+            final @Nullable Binding previous = bCommand.bind(binding);
+            // Replacing RootCommand in the command Set...
+            if (previous != null)
+                commands.remove(previous.rCommand);
+            commands.add(binding.rCommand);
+            // Registering again, as aliases and other metadata may have changed...
+            this.unregister(bCommand);
+            this.register(bCommand, binding.rCommand.getAliases(), binding.rCommand.getPermission(), binding.rCommand.getUsage(), binding.rCommand.getDescription());
+        });
+        // Registering all new org.bukkit.Command instances to the server...
+        this.registerAll(additions);
+        // Re-sending command tree to online players, once...
+        commandsUpdater.request();
+        // ...
+        return this;
+    }
 
-        };
-        // Setting Bukkit aliases...
-        if (rCommand.getAliases() != null && rCommand.getAliases().isEmpty() == false && rCommand.getAliases().get(0).isEmpty() == false)
-            bCommand.setAliases(rCommand.getAliases());
+    /**
+     * Replaces command registered under name of specified {@link RootCommand}, or registers it if no command with that name is registered.
+     *
+     * @see #replaceCommands(Collection)
+     */
+    public RootCommandManager replaceCommand(final @NotNull RootCommand rCommand) throws IllegalArgumentException {
+        return this.replaceCommands(List.of(rCommand));
+    }
+
+    /**
+     * Unregisters command registered under specified name or alias, along with all its aliases. Does nothing if no such command is registered by this {@link RootCommandManager}.
+     * Invocations that are already in progress, including asynchronous ones, are not affected. Command tree is then re-sent to online players.
+     */
+    public RootCommandManager unregisterCommand(final @NotNull String label) {
+        final @Nullable RegisteredCommand bCommand = labels.get(label.toLowerCase(Locale.ROOT));
+        // ...
+        if (bCommand == null)
+            return this;
+        // Unregistering org.bukkit.Command from the server...
+        this.unregister(bCommand);
+        // Removing RootCommand from the command Set, if it has already been created...
+        final @Nullable Binding binding = bCommand.binding;
+        // ...
+        if (binding != null)
+            commands.remove(binding.rCommand);
+        // Re-sending command tree to online players, once...
+        commandsUpdater.request();
+        // ...
+        return this;
+    }
+
+    /**
+     * Returns {@link RootCommand} registered under specified name or alias, or {@code null} if no such command is registered by this {@link RootCommandManager}.
+     * Lookup is case-insensitive and accepts labels prefixed with plugin name.
+     * <br />
+     * <br />
+     * Commands registered as stubs are created by this call, but only when called from the main thread.
+     * When called from any other thread, {@code null} is returned for commands that have not been created yet.
+     */
+    public @Nullable RootCommand getCommand(final @NotNull String label) {
+        final @Nullable RegisteredCommand bCommand = labels.get(label.toLowerCase(Locale.ROOT));
+        // ...
+        if (bCommand == null)
+            return null;
+        // Returning already created command, regardless of the thread...
+        final @Nullable Binding binding = bCommand.binding;
+        // ...
+        if (binding != null)
+            return binding.rCommand;
+        // Commands are created (and their dependencies resolved) on the main thread only.
+        return (plugin.getServer().isPrimaryThread() == true) ? bCommand.binding().rCommand : null;
+    }
+
+    // Registers specified org.bukkit.Command instances to the server at once.
+    private void registerAll(final @NotNull List<RegisteredCommand> bCommands) {
+        if (bCommands.isEmpty() == true)
+            return;
+        // Registering all org.bukkit.Command instances to the server...
+        plugin.getServer().getCommandMap().registerAll(plugin.getName(), List.<Command>copyOf(bCommands));
+        // Indexing labels, so commands can be found when completions are requested asynchronously...
+        for (final RegisteredCommand bCommand : bCommands) {
+            this.indexLabels(bCommand);
+            // Adding RootCommand to the command Set...
+            commands.add(bCommand.binding().rCommand);
+        }
+    }
+
+    // Unregisters specified org.bukkit.Command from the server, removing all labels it has been registered under.
+    private void unregister(final @NotNull RegisteredCommand bCommand) {
+        final CommandMap commandMap = plugin.getServer().getCommandMap();
+        final Map<String, Command> knownCommands = commandMap.getKnownCommands();
+        // Collecting labels first, as known commands map cannot be modified while iterating...
+        final List<String> known = new ArrayList<>();
+        // ...
+        for (final Map.Entry<String, Command> entry : knownCommands.entrySet())
+            if (entry.getValue() == bCommand)
+                known.add(entry.getKey());
+        // ...
+        for (final String label : known)
+            knownCommands.remove(label);
+        // Removing from the label index...
+        labels.values().removeIf(command -> command == bCommand);
+        // Marking org.bukkit.Command as unregistered, so it can be registered again...
+        bCommand.unregister(commandMap);
+    }
+
+    // Registers specified org.bukkit.Command to the server, along with specified metadata.
+    private void register(final @NotNull RegisteredCommand bCommand, final @Nullable List<String> aliases, final @Nullable String permission, final @Nullable String usage, final @Nullable String description) {
+        // Registering org.bukkit.Command to the server...
+        plugin.getServer().getCommandMap().register(plugin.getName(), this.describe(bCommand, aliases, permission, usage, description));
+        // Indexing labels, so command can be found when completions are requested asynchronously...
+        this.indexLabels(bCommand);
+    }
+
+    // Sets specified metadata of org.bukkit.Command and returns it.
+    private @NotNull RegisteredCommand describe(final @NotNull RegisteredCommand bCommand, final @Nullable List<String> aliases, final @Nullable String permission, final @Nullable String usage, final @Nullable String description) {
+        // Setting Bukkit aliases... Values are always set, as command can be described again when replaced.
+        bCommand.setAliases((aliases != null && aliases.isEmpty() == false && aliases.get(0).isEmpty() == false) ? aliases : List.of());
         // Setting Bukkit permission...
-        if (rCommand.getPermission() != null && rCommand.getPermission().isEmpty() == false)
-            bCommand.setPermission(rCommand.getPermission());
+        bCommand.setPermission((permission != null && permission.isEmpty() == false) ? permission : null);
         // Setting Bukkit usage...
-        if (rCommand.getUsage() != null && rCommand.getUsage().isEmpty() == false)
-            bCommand.setUsage(rCommand.getUsage());
+        bCommand.setUsage((usage != null && usage.isEmpty() == false) ? usage : "/" + bCommand.getName());
         // Setting Bukkit description...
-        if (rCommand.getDescription() != null && rCommand.getDescription().isEmpty() == false) {
-            bCommand.setDescription(rCommand.getDescription());
-        }
-        // Registering org.bukkit.Command to the server...
-        plugin.getServer().getCommandMap().register(plugin.getName(), bCommand);
-        // Adding RootCommand to the command Set...
-        commands.add(rCommand);
+        bCommand.setDescription((description != null && description.isEmpty() == false) ? description : "");
         // ...
-        return this;
+        return bCommand;
     }
 
     /**
      * Registers command from specified {@link Class Class&lt;T&gt;}. Class must have an empty constructor.
+     * <p>
+     * When {@link #setLazyInstantiation(boolean) lazy instantiation} is enabled and class is annotated with {@link cloud.grabsky.commands.annotation.Command @Command},
+     * command is instantiated on first use instead.
      *
      * @throws IllegalArgumentException class is inaccessible or cannot be initialized.
      */
     public <T extends RootCommand> RootCommandManager registerCommand(final @NotNull Class<T> commandClass) throws IllegalArgumentException {
+        // Registering a stub, in case lazy instantiation is enabled. Metadata must be known beforehand, so @Command annotation is required.
+        if (lazyInstantiation == true && commandClass.isAnnotationPresent(cloud.grabsky.commands.annotation.Command.class) == true) {
+            final @NotNull cloud.grabsky.commands.annotation.Command command = commandClass.getAnnotation(cloud.grabsky.commands.annotation.Command.class);
+            // Failing early in case any of the dependencies is missing.
+            for (final Field field : commandClass.getDeclaredFields())
+                if (field.isAnnotationPresent(Dependency.class) == true)
+                    this.requireDependency(commandClass, field.getName(), field.getType());
+            // ...
+            this.registerLazily(command.name(), List.of(command.aliases()), command.permission(), command.usage(), command.description(), () -> this.instantiate(commandClass));
+            return this;
+        }
+        // Registering using this#registerCommand(RootCommand)...
+        return this.registerCommand(this.instantiate(commandClass));
+    }
+
+    // Creates and returns new instance of specified command class, with metadata and dependencies set.
+    private @NotNull RootCommand instantiate(final @NotNull Class<? extends RootCommand> commandClass) throws IllegalArgumentException {
         try {
             final Constructor<? extends RootCommand> constructor = commandClass.getDeclaredConstructor();
             // Making constructor accessible.
             constructor.setAccessible(true);
             // Creating new instance of class object.
-            final RootCommand commandObject = commandClass.getDeclaredConstructor().newInstance();
+            final RootCommand commandObject = constructor.newInstance();
             // Checking for presence of @Command annotation.
             if (commandClass.isAnnotationPresent(cloud.grabsky.commands.annotation.Command.class) == true) {
                 // Getting @Command annotation.
                 final @NotNull cloud.grabsky.commands.annotation.Command command = commandClass.getAnnotation(cloud.grabsky.commands.annotation.Command.class);
                 // Setting fields with values specified within @Command annotation.
-                Reflections.setInstanceField(commandObject, commandClass.getSuperclass().getDeclaredField("name"), command.name());
-                Reflections.setInstanceField(commandObject, commandClass.getSuperclass().getDeclaredField("aliases"), List.of(command.aliases()));
-                Reflections.setInstanceField(commandObject, commandClass.getSuperclass().getDeclaredField("permission"), command.permission());
-                Reflections.setInstanceField(commandObject, commandClass.getSuperclass().getDeclaredField("usage"), command.usage());
-                Reflections.setInstanceField(commandObject, commandClass.getSuperclass().getDeclaredField("description"), command.description());
+                commandObject.setMetadata(command.name(), List.of(command.aliases()), command.permission(), command.usage(), command.description(), command.async(), command.timeout(), command.asyncCompletions());
             }
             // Iterating over all declared fields of command class to look for dependencies...
             for (final Field field : commandClass.getDeclaredFields()) {
                 // Checking for presence of @Dependency annotation.
                 if (field.isAnnotationPresent(Dependency.class) == true) {
-                    // Throwing an exception in case no dependency "resolver" was specified for that type.
-                    if (dependencies.containsKey(field.getType()) == false)
-                        throw new IllegalStateException(commandClass.getName() + " declared field " + field.getName() + " of type " + field.getType().getName() + " as @Dependency and no dependency for that type has been registered.");
+                    // Resolving the dependency. Throws an exception in case no dependency "resolver" was specified for that type.
+                    final Object dependency = this.resolveDependency(commandObject, field.getName(), field.getType());
                     // Setting the dependency field.
                     field.setAccessible(true);
-                    field.set(commandObject, dependencies.getOrDefault(field.getType(), null).apply(commandObject));
+                    field.set(commandObject, dependency);
                 }
             }
-            // Registering using this#registerCommand(RootCommand)...
-            this.registerCommand(commandObject);
-        } catch (final InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException | NoSuchFieldException exc) {
+            // ...
+            return commandObject;
+        } catch (final InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException exc) {
             throw new IllegalArgumentException("Could not register command from " + commandClass.getName() + " class.", exc);
         }
+    }
+
+    /**
+     * Registers all commands from specified {@link CommandIndex}. Commands are instantiated and injected by code generated at compile-time, without use of reflection.
+     *
+     * @throws IllegalStateException when no dependency has been registered for type of a {@link Dependency @Dependency} field.
+     */
+    public RootCommandManager registerCommands(final @NotNull CommandIndex index) throws IllegalStateException {
+        // Registering stubs, in case lazy instantiation is enabled. Metadata of indexed commands is always known beforehand.
+        if (lazyInstantiation == true) {
+            // Failing early in case any of the dependencies is missing, before anything is registered.
+            for (final CommandIndex.Entry entry : index.getEntries())
+                entry.dependencies().forEach((field, type) -> this.requireDependency(entry.type(), field, type));
+            // ...
+            for (final CommandIndex.Entry entry : index.getEntries())
+                this.registerLazily(entry.name(), entry.aliases(), entry.permission(), entry.usage(), entry.description(), () -> this.instantiate(entry));
+            // Re-sending command tree to online players, once...
+            commandsUpdater.request();
+            return this;
+        }
+        final List<RootCommand> rCommands = new ArrayList<>(index.getEntries().size());
+        // Creating all commands before anything is registered...
+        for (final CommandIndex.Entry entry : index.getEntries())
+            rCommands.add(this.instantiate(entry));
+        // Registering using this#registerCommands(Collection)...
+        return this.registerCommands(rCommands);
+    }
+
+    // Creates and returns new instance of specified indexed command, with metadata and dependencies set.
+    private @NotNull RootCommand instantiate(final @NotNull CommandIndex.Entry entry) throws IllegalStateException {
+        // Creating new instance of the command.
+        final RootCommand commandObject = entry.constructor().get();
+        // Setting fields with values specified within @Command annotation.
+        commandObject.setMetadata(entry.name(), entry.aliases(), entry.permission(), entry.usage(), entry.description(), entry.async(), entry.timeout(), entry.asyncCompletions());
+        // Setting the dependency fields.
+        entry.injector().inject(commandObject, this::resolveDependency);
+        // ...
+        return commandObject;
+    }
+
+    // Registers a stub of the command. Command is instantiated by specified factory on first use.
+    private void registerLazily(final @NotNull String name, final @NotNull List<String> aliases, final @NotNull String permission, final @NotNull String usage, final @NotNull String description, final @NotNull Supplier<RootCommand> factory) throws IllegalArgumentException {
+        if (name.isEmpty() == true)
+            throw new IllegalArgumentException("Command definition is unnamed.");
+        // Registering org.bukkit.Command to the server...
+        this.register(new RegisteredCommand(name, factory), aliases, permission, usage, description);
+    }
+
+    /**
+     * Registers all commands from every {@link CommandIndex} generated for the plugin. Index implementations are discovered using {@link ServiceLoader}.
+     *
+     * @throws IllegalStateException when no dependency has been registered for type of a {@link Dependency @Dependency} field.
+     */
+    public RootCommandManager registerCommands() throws IllegalStateException {
+        for (final CommandIndex index : ServiceLoader.load(CommandIndex.class, plugin.getClass().getClassLoader()))
+            this.registerCommands(index);
+        // ...
+        return this;
+    }
+
+    // Throws an exception in case no dependency "resolver" was specified for specified type.
+    private void requireDependency(final @NotNull Class<?> owner, final @NotNull String field, final @NotNull Class<?> type) throws IllegalStateException {
+        if (dependencies.containsKey(type) == false)
+            throw new IllegalStateException(owner.getName() + " declared field " + field + " of type " + type.getName() + " as @Dependency and no dependency for that type has been registered.");
+    }
+
+    // Returns dependency of specified type, resolved for specified command.
+    @SuppressWarnings("unchecked")
+    private <T> T resolveDependency(final @NotNull RootCommand command, final @NotNull String field, final @NotNull Class<T> type) throws IllegalStateException {
+        final @Nullable Function<RootCommand, ?> function = dependencies.get(type);
+        // Throwing an exception in case no dependency "resolver" was specified for that type.
+        if (function == null)
+            throw new IllegalStateException(command.getClass().getName() + " declared field " + field + " of type " + type.getName() + " as @Dependency and no dependency for that type has been registered.");
+        // ...
+        return (T) function.apply(command);
+    }
+
+    /**
+     * Sets whether commands registered from {@link Class} annotated with {@link cloud.grabsky.commands.annotation.Command @Command}, or from {@link CommandIndex},
+     * should be instantiated on first use rather than when registered. Stub containing only the metadata is registered to the server in the meantime.
+     * <p>
+     * Instances are created on the main thread, when command is executed or completions are requested for the first time.
+     * Asynchronous completion requests are handled on the main thread until then. Only commands registered after this method is called are affected.
+     */
+    public RootCommandManager setLazyInstantiation(final boolean state) {
+        this.lazyInstantiation = state;
+        // ...
+        return this;
+    }
+
+    /**
+     * Sets whether {@link RootCommandContext} and {@link ArgumentQueue} instances should be re-used between invocations of the same command.
+     * When enabled, command execution on the main thread allocates no framework objects, at the cost of following restrictions:
+     * <ul>
+     *     <li>{@link RootCommandContext}, {@link RootCommandExecutor}, {@link RootCommandInput} and {@link ArgumentQueue} <b><u>must not</u></b> be referenced after the command returns.</li>
+     *     <li>{@link Argument Argument&lt;T&gt;} returned by {@link ArgumentQueue#next} <b><u>must</u></b> be processed immediately.</li>
+     * </ul>
+     * Nested and off-main-thread invocations always use new instances. Disabled by default.
+     */
+    public RootCommandManager setReusingContexts(final boolean reusingContexts) {
+        this.reusingContexts = reusingContexts;
+        // ...
+        return this;
+    }
+
+    /**
+     * Sets whether completions should be answered from Paper's {@link AsyncTabCompleteEvent}, off the main thread. Disabled by default.
+     * Completions are answered asynchronously only for commands that opted-in using {@link cloud.grabsky.commands.annotation.Command#asyncCompletions() @Command(asyncCompletions = true)},
+     * and only when {@link CompletionsProvider} returned by the command is thread-safe. Otherwise, they are requested again from the main thread.
+     *
+     * @apiNote {@link RootCommand#onTabComplete} and {@link CommandTree} completions of commands that opted-in are called off the main thread and must be thread-safe.
+     *
+     * @see CompletionsProvider#isThreadSafe(RootCommandContext)
+     */
+    public RootCommandManager setAsyncCompletions(final boolean asyncCompletions) {
+        this.asyncCompletions = asyncCompletions;
+        // Registering the listener on first use...
+        if (asyncCompletions == true && asyncCompletionsListener == null) {
+            asyncCompletionsListener = new AsyncCompletionsListener(this);
+            plugin.getServer().getPluginManager().registerEvents(asyncCompletionsListener, plugin);
+        }
         // ...
         return this;
     }
 
+    /**
+     * Sets maximum number of completions returned for a single request. Providers pushing completions to {@link CompletionsSink} stop once the limit is reached. Unlimited by default.
+     *
+     * @throws IllegalArgumentException if specified limit is lower than {@code 1}.
+     */
+    public RootCommandManager setCompletionsLimit(final int completionsLimit) throws IllegalArgumentException {
+        if (completionsLimit < 1)
+            throw new IllegalArgumentException("Completions limit must be greater than 0.");
+        // ...
+        this.completionsLimit = completionsLimit;
+        // ...
+        return this;
+    }
+
+    /**
+     * Sets whether completions of players should be narrowed incrementally. When enabled, request extending the input of the same argument
+     * is answered by filtering the previous result, instead of calling {@link CompletionsProvider#provide} again.
+     * Each player keeps only the last result, which expires after few seconds of inactivity or when player disconnects. Disabled by default.
+     *
+     * @apiNote Narrowed completions can be slightly out of date, which should be taken into account when enabling this for frequently changing completions.
+     */
+    public RootCommandManager setNarrowingCompletions(final boolean narrowingCompletions) {
+        if (narrowingCompletions == true && completionsSessions == null) {
+            completionsSessions = new CompletionsSessions();
+            plugin.getServer().getPluginManager().registerEvents(completionsSessions, plugin);
+        } else if (narrowingCompletions == false && completionsSessions != null) {
+            HandlerList.unregisterAll(completionsSessions);
+            completionsSessions = null;
+        }
+        // ...
+        return this;
+    }
+
+    /**
+     * Returns {@code true} if completions of players are narrowed incrementally.
+     */
+    public boolean isNarrowingCompletions() {
+        return completionsSessions != null;
+    }
+
+    /**
+     * Sets {@link CompletionsThrottle} used to limit completion requests of players. Passing {@code null} disables throttling. Disabled by default.
+     */
+    public RootCommandManager setCompletionsThrottle(final @Nullable CompletionsThrottle completionsThrottle) {
+        // Unregistering listener of the previous throttle...
+        if (this.completionsThrottle != null)
+            HandlerList.unregisterAll(this.completionsThrottle);
+        // ...
+        this.completionsThrottle = completionsThrottle;
+        // Registering listener responsible for clearing state of disconnected players...
+        if (completionsThrottle != null)
+            plugin.getServer().getPluginManager().registerEvents(completionsThrottle, plugin);
+        // ...
+        return this;
+    }
+
+    /**
+     * Sets whether invocation counts, latencies and failures of commands should be recorded. Disabled by default.
+     *
+     * @see #getMetrics()
+     */
+    public RootCommandManager setRecordingMetrics(final boolean recordingMetrics) {
+        this.recordingMetrics = recordingMetrics;
+        // ...
+        return this;
+    }
+
+    /**
+     * Sets how often full stack trace of unexpected exceptions is logged. Unexpected exceptions are grouped by their stack signature;
+     * full stack trace is logged for the first occurrence and then for every n-th occurrence of the same exception, while
+     * remaining occurrences are summarized once per minute. Defaults to {@code 100}.
+     *
+     * @throws IllegalArgumentException if specified rate is lower than {@code 1}.
+     */
+    public RootCommandManager setErrorSampleRate(final int sampleRate) throws IllegalArgumentException {
+        if (sampleRate < 1)
+            throw new IllegalArgumentException("Sample rate must be greater than 0.");
+        // ...
+        errorReporter.setSampleRate(sampleRate);
+        // ...
+        return this;
+    }
+
+    /**
+     * Returns how often full stack trace of unexpected exceptions is logged.
+     *
+     * @see #setErrorSampleRate(int)
+     */
+    public int getErrorSampleRate() {
+        return errorReporter.getSampleRate();
+    }
+
+    /**
+     * Sets {@link CommandAuditLog} used to record every executed command. Passing {@code null} disables the audit log. Disabled by default.
+     * Previous audit log is closed, after writing all buffered records.
+     */
+    public RootCommandManager setAuditLog(final @Nullable CommandAuditLog auditLog) {
+        // Closing the previous audit log...
+        if (this.auditLog != null)
+            this.auditLog.close();
+        // ...
+        this.auditLog = auditLog;
+        // ...
+        if (auditLog != null)
+            auditLog.start(plugin.getLogger());
+        // ...
+        return this;
+    }
+
+    /**
+     * Sets {@link CommandWatchdog} used to detect commands exceeding configured budget on the main thread. Passing {@code null} disables the watchdog. Disabled by default.
+     */
+    public RootCommandManager setWatchdog(final @Nullable CommandWatchdog watchdog) {
+        // Stopping monitor thread of the previous watchdog...
+        if (this.watchdog != null)
+            this.watchdog.stop();
+        // ...
+        this.watchdog = watchdog;
+        // ...
+        if (watchdog != null)
+            watchdog.start(plugin.getLogger());
+        // ...
+        return this;
+    }
+
+    /**
+     * Returns an unmodifiable view of {@link CommandMetrics} of all commands registered by this manager, by their names.
+     */
+    public @NotNull @Unmodifiable Map<String, CommandMetrics> getMetrics() {
+        return Collections.unmodifiableMap(metrics);
+    }
+
     /**
      * Returns an unmodifiable copy of {@link HashSet HashSet&lt;RootCommand&gt;} containing all commands registered by this manager.
      */
@@ -288,41 +747,52 @@ public final class RootCommandManager {
      */
     @Internal @SuppressWarnings("unchecked")
     public <T> ArgumentParser<T> getArgumentParser(final @NotNull Class<T> type) throws IncompatibleParserException {
-        if (argumentParsers.containsKey(type) == true)
-            return (ArgumentParser<T>) argumentParsers.get(type);
+        final @Nullable ArgumentParser<?> parser = argumentParsersCache.get(type).orElse(null);
+        // ...
+        if (parser != null)
+            return (ArgumentParser<T>) parser;
         // ...
         throw new IncompatibleParserException(type);
     }
 
     /**
      * Sets {@link ArgumentParser ArgumentParser&lt;T&gt;} (parser) as a default argument parser for {@link T} (type).
+     * Parser is also used for subtypes of {@link T} (type), unless they have a parser registered on their own.
      */
-     public <T> RootCommandManager setArgumentParser(final @NotNull Class<T> type, final @Nullable ArgumentParser<T> parser) {
-         if (parser == null && argumentParsers.containsKey(type) == true)
-             argumentParsers.remove(type);
-         // ...
-         argumentParsers.put(type, parser);
-         // ...
-         return this;
+    public <T> RootCommandManager setArgumentParser(final @NotNull Class<T> type, final @Nullable ArgumentParser<T> parser) {
+        if (parser == null)
+            argumentParsers.remove(type);
+        else
+            argumentParsers.put(type, parser);
+        // Invalidating resolved parsers...
+        this.argumentParsersCache = createCache(argumentParsers);
+        // ...
+        return this;
     }
 
     /* EXCEPTION HANDLER */
 
     /**
-     * Returns {@link ExceptionHandler ExceptionHandler&lt;E&gt;} for specified {@link E} (type).
+     * Returns {@link ExceptionHandler ExceptionHandler&lt;E&gt;} for specified {@link E} (type), or for the closest superclass of {@link E} (type) that has one.
      *
      * @apiNote This is internal API that can change at any time.
      */
     @Internal @SuppressWarnings("unchecked")
     public <E extends CommandLogicException> @Nullable ExceptionHandler<E> getExceptionHandler(final @NotNull Class<E> type) {
-        return (ExceptionHandler<E>) exceptionHandlers.get(type);
+        return (ExceptionHandler<E>) exceptionHandlersCache.get(type).orElse(null);
     }
 
     /**
      * Sets {@link ExceptionHandler ExceptionHandler&lt;E&gt;} (handler) as a default exception handler for {@link E} (type).
+     * Handler is also used for subclasses of {@link E} (type), unless they have a handler registered on their own.
      */
     public <E extends CommandLogicException> RootCommandManager setExceptionHandler(final @NotNull Class<E> type, final @Nullable ExceptionHandler<E> handler) {
-        exceptionHandlers.put(type, handler);
+        if (handler == null)
+            exceptionHandlers.remove(type);
+        else
+            exceptionHandlers.put(type, handler);
+        // Invalidating resolved handlers...
+        this.exceptionHandlersCache = createCache(exceptionHandlers);
         // ...
         return this;
     }
@@ -336,17 +806,20 @@ public final class RootCommandManager {
      */
     @Internal
     public <T> CompletionsProvider getCompletionsProvider(final @NotNull Class<T> type) {
-        return (completionsProviders.containsKey(type) == true) ? completionsProviders.get(type) : CompletionsProvider.EMPTY;
+        return completionsProvidersCache.get(type).orElse(CompletionsProvider.EMPTY);
     }
 
     /**
      * Sets {@link CompletionsProvider CompletionsProvider} (provider) as a default completions provider for {@link T} (type).
+     * Provider is also used for subtypes of {@link T} (type), unless they have a provider registered on their own.
      */
     public <T> RootCommandManager setCompletionsProvider(final @NotNull Class<T> type, final @Nullable CompletionsProvider provider) {
-        if (provider == null && completionsProviders.containsKey(type) == true)
+        if (provider == null)
             completionsProviders.remove(type);
-        // ...
-        completionsProviders.put(type, provider);
+        else
+            completionsProviders.put(type, provider);
+        // Invalidating resolved providers...
+        this.completionsProvidersCache = createCache(completionsProviders);
         // ...
         return this;
     }
@@ -372,13 +845,404 @@ public final class RootCommandManager {
         return this;
     }
 
+    /* COMMAND HANDLING */
+
+    /**
+     * Releases resources held by this {@link RootCommandManager}, stopping all background threads it has started.
+     * Asynchronous invocations that are still running are interrupted. Should be called from {@link Plugin#onDisable()},
+     * otherwise threads outlive the plugin and prevent its class loader from being unloaded.
+     */
+    @Override
+    public void close() {
+        // Stopping dispatcher of asynchronous commands, if it has been created...
+        if (asyncDispatcher != null) {
+            asyncDispatcher.shutdown();
+            // Commands bound afterwards will create a new dispatcher.
+            asyncDispatcher = null;
+        }
+        // Cancelling pending command tree updates...
+        commandsUpdater.cancel();
+        // Stopping the watchdog monitor thread, if enabled...
+        final @Nullable CommandWatchdog watchdog = this.watchdog;
+        // ...
+        if (watchdog != null) {
+            watchdog.stop();
+            this.watchdog = null;
+        }
+        // Writing remaining audit records and stopping the writer thread, if enabled...
+        final @Nullable CommandAuditLog auditLog = this.auditLog;
+        // ...
+        if (auditLog != null) {
+            auditLog.close();
+            this.auditLog = null;
+        }
+        // Stopping the error reporter thread...
+        errorReporter.shutdown();
+    }
+
+    // Returns dispatcher for asynchronous commands. Dispatcher is created on first use.
+    private @NotNull AsyncCommandDispatcher getAsyncDispatcher() {
+        if (asyncDispatcher == null)
+            asyncDispatcher = new AsyncCommandDispatcher(plugin);
+        // ...
+        return asyncDispatcher;
+    }
+
+    // Handles exception thrown during command execution.
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void handleException(final @NotNull RootCommandContext context, final @NotNull Throwable thrown) {
+        if (thrown instanceof CommandLogicException e) {
+            // Handling exceptions using ExceptionHandler<T> registry; the most specific handler is resolved once per exception class.
+            final @Nullable ExceptionHandler<?> handler = (e.isHandlerFinal() == false) ? this.getExceptionHandler(e.getClass()) : null;
+            // ...
+            if (handler != null) {
+                ((ExceptionHandler) handler).handle(e, context); // raw cast required for compilation
+                return;
+            }
+            // Handling exceptions using their Consumer<RootCommandContext>
+            e.accept(context);
+            return;
+        }
+        // Handling any other exceptions... reporting is done off the main thread.
+        errorReporter.report(context.getCommand().getName(), context.getInput().getInput(), thrown);
+        context.getExecutor().asCommandSender().sendMessage(UNEXPECTED_ERROR);
+    }
+
+    // Indexes all labels under which specified command has been registered to the server.
+    private void indexLabels(final @NotNull RegisteredCommand bCommand) {
+        final String fallbackPrefix = plugin.getName().toLowerCase(Locale.ENGLISH).trim();
+        // ...
+        labels.put(bCommand.getLabel().toLowerCase(Locale.ROOT), bCommand);
+        labels.put(fallbackPrefix + ":" + bCommand.getName().toLowerCase(Locale.ROOT), bCommand);
+        // Aliases that could not be registered are removed by the server, so only successfully registered ones are indexed.
+        for (final String alias : bCommand.getAliases()) {
+            labels.put(alias.toLowerCase(Locale.ROOT), bCommand);
+            labels.put(fallbackPrefix + ":" + alias.toLowerCase(Locale.ROOT), bCommand);
+        }
+    }
+
+    /**
+     * Returns {@link RegisteredCommand} registered under specified (lower-case) label, or {@code null} if not found.
+     */
+    /* PACKAGE PRIVATE */ @Nullable RegisteredCommand getRegisteredCommand(final @NotNull String label) {
+        return labels.get(label);
+    }
+
+    /**
+     * {@link RegisteredCommand} is a {@link Command} registered to the server on behalf of {@link RootCommand}.
+     */
+    /* PACKAGE PRIVATE */ final class RegisteredCommand extends Command {
+
+        private final CommandMetrics metrics;
+
+        // Creates the command on first use. Null once the command has been created, or when it was provided upfront.
+        private @Nullable Supplier<RootCommand> factory;
+
+        // Command along with state derived from it. Null until the command is created. Swapped when command is replaced.
+        private volatile @Nullable Binding binding;
+
+        private RegisteredCommand(final @NotNull RootCommand rCommand) {
+            this(rCommand.getName(), null);
+            this.binding = new Binding(rCommand);
+        }
+
+        private RegisteredCommand(final @NotNull String name, final @Nullable Supplier<RootCommand> factory) {
+            super(name);
+            this.metrics = RootCommandManager.this.metrics.computeIfAbsent(name, CommandMetrics::new);
+            this.factory = factory;
+        }
+
+        /**
+         * Returns {@link Binding} of this command. Command is created when called for the first time, if not provided upfront.
+         */
+        private @NotNull Binding binding() {
+            final @Nullable Binding existing = this.binding;
+            // Returning existing binding, without locking...
+            if (existing != null)
+                return existing;
+            // ...
+            synchronized (this) {
+                if (this.binding == null) {
+                    final RootCommand rCommand = factory.get();
+                    // Adding RootCommand to the command Set...
+                    commands.add(rCommand);
+                    // Releasing the factory along with everything it captures.
+                    this.factory = null;
+                    this.binding = new Binding(rCommand);
+                }
+                return this.binding;
+            }
+        }
+
+        /**
+         * Replaces {@link Binding} of this command with specified one. Returns previous {@link Binding}, or {@code null} if command has not been created yet.
+         */
+        private synchronized @Nullable Binding bind(final @NotNull Binding binding) {
+            final @Nullable Binding previous = this.binding;
+            // Command will not be created anymore.
+            this.factory = null;
+            this.binding = binding;
+            // ...
+            return previous;
+        }
+
+        @Override
+        public boolean execute(final @NotNull CommandSender sender, final @NotNull String label, final @NotNull String[] args) {
+            final Binding binding = this.binding();
+            final RootCommand rCommand = binding.rCommand;
+            final @Nullable CommandTree.Node compiledTree = binding.compiledTree;
+            final RootCommandInvocation invocation = binding.invocation;
+            final @Nullable AsyncCommandDispatcher dispatcher = binding.dispatcher;
+            // Dispatching asynchronous commands to the virtual thread executor. Exceptions are handled later, on the main thread.
+            if (dispatcher != null) {
+                final RootCommandContext context = new RootCommandContext(RootCommandManager.this, rCommand, new RootCommandExecutor(sender), new RootCommandInput(label, args));
+                final ArgumentQueue queue = new ArgumentQueue(context, args);
+                // ...
+                dispatcher.dispatch(sender, binding.timeout, () -> invoke(compiledTree, context, queue, (recordingMetrics == true) ? metrics.execute : null), (thrown) -> handleException(context, thrown));
+                return true;
+            }
+            final @Nullable RootCommandInvocation pooled = (reusingContexts == true && invocation.acquire(sender, label, args) == true) ? invocation : null;
+            // Falling back to new instances when shared ones cannot be used.
+            final RootCommandContext context = (pooled != null) ? pooled.context : new RootCommandContext(RootCommandManager.this, rCommand, new RootCommandExecutor(sender), new RootCommandInput(label, args));
+            final ArgumentQueue queue = (pooled != null) ? pooled.queue : new ArgumentQueue(context, args);
+            // ...
+            final @Nullable CommandWatchdog watchdog = RootCommandManager.this.watchdog;
+            final @Nullable CommandWatchdog.Inflight inflight = (watchdog != null) ? watchdog.enter(context, CommandWatchdog.Kind.EXECUTE) : null;
+            // Handling the command... and exceptions it throws
+            try {
+                final @Nullable Throwable thrown = invoke(compiledTree, context, queue, (recordingMetrics == true) ? metrics.execute : null);
+                // ...
+                if (thrown == null)
+                    return true;
+                // ...
+                handleException(context, thrown);
+                return false;
+            } finally {
+                // Must happen before the context is released, as it is read when invocation exceeded the budget.
+                if (inflight != null)
+                    watchdog.exit(inflight);
+                // ...
+                if (pooled != null)
+                    pooled.release();
+            }
+        }
+
+        @Override
+        public @NotNull List<String> tabComplete(final @NotNull CommandSender sender, final @NotNull String alias, final @NotNull String @NotNull [] args) throws IllegalArgumentException {
+            final @Nullable List<String> completions = this.complete(sender, alias, args, false);
+            // Should never be null when called synchronously.
+            return (completions != null) ? completions : Arrays.EMPTY_STRING_LIST;
+        }
+
+        /**
+         * Returns completions for specified input. When {@code async} is {@code true} and resolved {@link CompletionsProvider}
+         * is not thread-safe, {@code null} is returned and completions should be requested again from the main thread.
+         */
+        /* PACKAGE PRIVATE */ @Nullable List<String> complete(final @NotNull CommandSender sender, final @NotNull String alias, final @NotNull String[] args, final boolean async) {
+            // Deferring to the main thread until the command is created, or when command has not opted-in for asynchronous completions.
+            // Checked before any user code is called. Commands are never created asynchronously.
+            if (async == true) {
+                final @Nullable Binding binding = this.binding;
+                // ...
+                if (binding == null || binding.asyncCompletions == false)
+                    return null;
+            }
+            // Disabling completions for invalid input
+            if (args.length > 1 && args[args.length - 2].isEmpty() == true) {
+                return Arrays.EMPTY_STRING_LIST;
+            }
+            final @Nullable UUID uniqueId = (sender instanceof Player player) ? player.getUniqueId() : null;
+            // Throttling completion requests of players...
+            final @Nullable CompletionsThrottle throttle = (uniqueId != null) ? completionsThrottle : null;
+            // ...
+            if (throttle != null) {
+                final @Nullable List<String> suppressed = throttle.check(uniqueId, alias, args);
+                // ...
+                if (suppressed != null)
+                    return suppressed;
+            }
+            // Narrowing previous result when input extends the previous one...
+            final @Nullable CompletionsSessions sessions = (uniqueId != null) ? completionsSessions : null;
+            // ...
+            if (sessions != null) {
+                final @Nullable List<String> narrowed = sessions.narrow(uniqueId, alias, args);
+                // ...
+                if (narrowed != null) {
+                    if (throttle != null)
+                        throttle.record(uniqueId, alias, args, narrowed);
+                    // ...
+                    return narrowed;
+                }
+            }
+            // Handling...
+            final Binding binding = this.binding();
+            final RootCommand rCommand = binding.rCommand;
+            final @Nullable CommandTree.Node compiledTree = binding.compiledTree;
+            final RootCommandInvocation invocation = binding.invocation;
+            // ...
+            final @Nullable RootCommandInvocation pooled = (async == false && reusingContexts == true && invocation.acquire(sender, alias, args) == true) ? invocation : null;
+            final RootCommandContext context = (pooled != null) ? pooled.context : new RootCommandContext(RootCommandManager.this, rCommand, new RootCommandExecutor(sender), new RootCommandInput(alias, args));
+            // ...
+            final @Nullable CommandMetrics.Recorder recorder = (recordingMetrics == true) ? metrics.tabComplete : null;
+            final long start = (recorder != null) ? System.nanoTime() : 0L;
+            // Watching only invocations on the main thread...
+            final @Nullable CommandWatchdog watchdog = (async == false) ? RootCommandManager.this.watchdog : null;
+            final @Nullable CommandWatchdog.Inflight inflight = (watchdog != null) ? watchdog.enter(context, CommandWatchdog.Kind.TAB_COMPLETE) : null;
+            // ...
+            try {
+                final CompletionsProvider provider = (compiledTree != null)
+                        ? compiledTree.complete(context, args)
+                        : rCommand.onTabComplete(context, args.length - 1);
+                // Falling back to the main thread for providers that are not thread-safe...
+                if (async == true && provider.isThreadSafe(context) == false) {
+                    if (throttle != null)
+                        throttle.refund(uniqueId);
+                    // ...
+                    return null;
+                }
+                // ...
+                final CompletionsSink sink = new CompletionsSink(args[args.length - 1], completionsLimit);
+                final @Nullable CompletionsProvideEvent event = CompletionsProvideEvent.start();
+                // Collecting completions matching the input, up to the limit...
+                try {
+                    provider.provide(context, sink);
+                } finally {
+                    if (event != null)
+                        event.complete(context, provider, sink.getCompletions().size(), async);
+                }
+                // ...
+                final List<String> completions = sink.getCompletions();
+                // ...
+                if (throttle != null)
+                    throttle.record(uniqueId, alias, args, completions);
+                // Result that reached the limit can be incomplete and cannot be narrowed.
+                if (sessions != null)
+                    sessions.update(uniqueId, alias, args, sink.getSource(), (sink.isFull() == false) ? completions : null);
+                // ...
+                if (recorder != null)
+                    recorder.record(System.nanoTime() - start, null);
+                // ...
+                return completions;
+            } catch (final CommandLogicException exc) {
+                if (recorder != null)
+                    recorder.record(System.nanoTime() - start, exc);
+                // ...
+                return Arrays.EMPTY_STRING_LIST;
+            } finally {
+                if (inflight != null)
+                    watchdog.exit(inflight);
+                // ...
+                if (pooled != null)
+                    pooled.release();
+            }
+        }
+
+    }
+
+    /**
+     * {@link Binding} holds {@link RootCommand} along with state derived from it. Invocations use the same {@link Binding} from start to end.
+     */
+    private final class Binding {
+
+        private final RootCommand rCommand;
+        private final @Nullable CommandTree.Node compiledTree;
+        private final @Nullable AsyncCommandDispatcher dispatcher;
+        private final long timeout;
+        private final boolean asyncCompletions;
+
+        // Context and queue re-used between invocations when enabled.
+        private final RootCommandInvocation invocation;
+
+        private Binding(final @NotNull RootCommand rCommand) {
+            this.rCommand = rCommand;
+            // Compiling subcommand tree, if defined...
+            final @Nullable CommandTree tree = rCommand.createTree();
+            this.compiledTree = (tree != null) ? tree.compile() : null;
+            // Getting dispatcher for asynchronous commands...
+            this.dispatcher = (rCommand.isAsync() == true) ? RootCommandManager.this.getAsyncDispatcher() : null;
+            this.timeout = rCommand.getTimeout();
+            this.asyncCompletions = rCommand.isAsyncCompletions();
+            this.invocation = new RootCommandInvocation(RootCommandManager.this, rCommand);
+        }
+
+    }
+
     /* STATIC HELPERS */
 
-    // Filters list to only contain elements matching 'input' argument. Case insensitive.
-    private static List<String> toFilteredList(final @NotNull List<String> list, final @NotNull String input) {
-        return list.stream()
-                .filter(element -> element.toLowerCase().contains(input.toLowerCase()) == true)
-                .toList();
+    // Creates ClassValue resolving values of specified registry for requested types.
+    private static <V> @NotNull ClassValue<Optional<V>> createCache(final @NotNull Map<Class<?>, V> registry) {
+        return new ClassValue<>() {
+
+            @Override
+            protected Optional<V> computeValue(final @NotNull Class<?> type) {
+                return Optional.ofNullable(resolve(registry, type));
+            }
+
+        };
+    }
+
+    // Returns value registered for the closest supertype of specified type, or null if none was found. Superclasses take precedence over interfaces.
+    private static <V> @Nullable V resolve(final @NotNull Map<Class<?>, V> registry, final @NotNull Class<?> type) {
+        // Walking the superclasses...
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            final @Nullable V value = registry.get(current);
+            // ...
+            if (value != null)
+                return value;
+        }
+        // Walking the interfaces, breadth-first...
+        final Deque<Class<?>> queue = new ArrayDeque<>();
+        final Set<Class<?>> visited = new HashSet<>();
+        // ...
+        for (Class<?> current = type; current != null; current = current.getSuperclass())
+            Collections.addAll(queue, current.getInterfaces());
+        // ...
+        while (queue.isEmpty() == false) {
+            final Class<?> current = queue.poll();
+            // ...
+            if (visited.add(current) == false)
+                continue;
+            // ...
+            final @Nullable V value = registry.get(current);
+            // ...
+            if (value != null)
+                return value;
+            // ...
+            Collections.addAll(queue, current.getInterfaces());
+        }
+        return null;
+    }
+
+    // Executes the command, routing through subcommand tree if present. Returns exception thrown during execution, or null if completed successfully.
+    private static @Nullable Throwable invoke(final @Nullable CommandTree.Node tree, final @NotNull RootCommandContext context, final @NotNull ArgumentQueue queue, final @Nullable CommandMetrics.Recorder recorder) {
+        final @Nullable CommandExecutionEvent event = CommandExecutionEvent.start();
+        // ...
+        final @Nullable CommandAuditLog auditLog = context.getManager().getAuditLog();
+        // ...
+        final long start = (recorder != null || auditLog != null) ? System.nanoTime() : 0L;
+        // ...
+        @Nullable Throwable thrown = null;
+        // ...
+        try {
+            if (tree != null)
+                tree.execute(context, queue);
+            else
+                context.getCommand().onCommand(context, queue);
+        } catch (final Throwable e) {
+            thrown = e;
+        }
+        if (event != null)
+            event.complete(context, thrown);
+        // ...
+        final long nanos = (recorder != null || auditLog != null) ? System.nanoTime() - start : 0L;
+        // ...
+        if (recorder != null)
+            recorder.record(nanos, thrown);
+        // ...
+        if (auditLog != null)
+            auditLog.record(context, context.getInput().getRawArguments(), thrown, nanos);
+        // ...
+        return thrown;
     }
 
 }
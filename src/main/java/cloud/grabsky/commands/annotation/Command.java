@@ -22,4 +22,20 @@ public @interface Command {
 
     @Nullable String description() default "";
 
+    /**
+     * Whether command should be executed on a virtual thread instead of the server main thread.
+     */
+    boolean async() default false;
+
+    /**
+     * Deadline (in milliseconds) of asynchronous command execution. Values lower than or equal to {@code 0} disable the deadline.
+     */
+    long timeout() default 0L;
+
+    /**
+     * Whether completions of this command can be computed off the main thread, when asynchronous completions are enabled.
+     * Both {@link cloud.grabsky.commands.RootCommand#onTabComplete} and subcommand tree of the command must be thread-safe in such case.
+     */
+    boolean asyncCompletions() default false;
+
 }
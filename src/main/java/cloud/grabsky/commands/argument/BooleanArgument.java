@@ -25,19 +25,22 @@ package cloud.grabsky.commands.argument;
 
 import cloud.grabsky.commands.ArgumentQueue;
 import cloud.grabsky.commands.RootCommandContext;
-import cloud.grabsky.commands.component.ArgumentParser;
+import cloud.grabsky.commands.component.BooleanArgumentParser;
 import cloud.grabsky.commands.component.CompletionsProvider;
+import cloud.grabsky.commands.component.ParseResult;
 import cloud.grabsky.commands.exception.ArgumentParseException;
 import cloud.grabsky.commands.exception.CommandLogicException;
 import cloud.grabsky.commands.exception.MissingInputException;
+import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
 /**
  * Converts {@link String} literal to {@link Boolean}.
  */
-public enum BooleanArgument implements CompletionsProvider, ArgumentParser<Boolean> {
+public enum BooleanArgument implements CompletionsProvider, BooleanArgumentParser {
     /* SINGLETON */ INSTANCE;
 
     private static final List<String> BOOLEAN_NAMES = List.of("true", "false");
@@ -47,15 +50,47 @@ public enum BooleanArgument implements CompletionsProvider, ArgumentParser<Boole
         return BOOLEAN_NAMES;
     }
 
+    @Override
+    public boolean isThreadSafe(final @NotNull RootCommandContext context) {
+        return true;
+    }
+
     @Override
     public Boolean parse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) throws ArgumentParseException, MissingInputException {
-        final String value = arguments.nextString();
+        return this.parseBoolean(context, arguments);
+    }
+
+    @Override
+    public boolean parseBoolean(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) throws ArgumentParseException, MissingInputException {
+        return parseBoolean(arguments.nextString());
+    }
+
+    @Override
+    public @NotNull ParseResult<Boolean> tryParse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) {
+        final @Nullable String value = arguments.pollString();
+        // ...
+        if (value == null)
+            return ParseResult.missing();
+        // ...
+        if (value.equalsIgnoreCase("true") == true)
+            return ParseResult.success(true);
+        else if (value.equalsIgnoreCase("false") == true)
+            return ParseResult.success(false);
+        // ...
+        return ParseResult.failure(new BooleanArgument.Exception(value));
+    }
+
+    /**
+     * Parses specified {@link String} to {@code boolean}. Used by {@link ArgumentQueue#nextBoolean()} and its variants.
+     */
+    @Internal
+    public static boolean parseBoolean(final @NotNull String value) throws BooleanArgument.Exception {
+        if (value.equalsIgnoreCase("true") == true)
+            return true;
+        else if (value.equalsIgnoreCase("false") == true)
+            return false;
         // ...
-        return switch (value.toLowerCase()) {
-            case "true" -> true;
-            case "false" -> false;
-            default -> throw new BooleanArgument.Exception(value);
-        };
+        throw new BooleanArgument.Exception(value);
     }
 
     /**
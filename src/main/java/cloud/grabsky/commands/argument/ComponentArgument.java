@@ -26,10 +26,12 @@ package cloud.grabsky.commands.argument;
 import cloud.grabsky.commands.ArgumentQueue;
 import cloud.grabsky.commands.RootCommandContext;
 import cloud.grabsky.commands.component.ArgumentParser;
+import cloud.grabsky.commands.component.ParseResult;
 import cloud.grabsky.commands.exception.MissingInputException;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public enum ComponentArgument implements ArgumentParser<Component> {
 
@@ -45,6 +47,13 @@ public enum ComponentArgument implements ArgumentParser<Component> {
             return MINI_MESSAGE.deserialize(arguments.nextString());
         }
 
+        @Override
+        public @NotNull ParseResult<Component> tryParse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) {
+            final @Nullable String value = arguments.pollString();
+            // ...
+            return (value != null) ? ParseResult.success(MINI_MESSAGE.deserialize(value)) : ParseResult.missing();
+        }
+
     },
 
     /**
@@ -65,6 +74,11 @@ public enum ComponentArgument implements ArgumentParser<Component> {
             return MINI_MESSAGE.deserialize(builder.toString());
         }
 
+        @Override
+        public @NotNull ParseResult<Component> tryParse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) {
+            return (arguments.hasNext() == true) ? ParseResult.success(this.parse(context, arguments)) : ParseResult.missing();
+        }
+
     }
 
 }
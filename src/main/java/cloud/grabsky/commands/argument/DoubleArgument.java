@@ -26,12 +26,17 @@ package cloud.grabsky.commands.argument;
 import cloud.grabsky.commands.ArgumentQueue;
 import cloud.grabsky.commands.RootCommandContext;
 import cloud.grabsky.commands.component.ArgumentParser;
+import cloud.grabsky.commands.component.DoubleArgumentParser;
+import cloud.grabsky.commands.component.ParseResult;
 import cloud.grabsky.commands.exception.MissingInputException;
 import cloud.grabsky.commands.exception.NumberParseException;
+import cloud.grabsky.commands.util.Numbers;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.math.BigDecimal;
 
@@ -39,7 +44,7 @@ import java.math.BigDecimal;
  * Converts {@link String} literal to {@link Double}.
  */
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-public final class DoubleArgument implements ArgumentParser<Double> {
+public final class DoubleArgument implements DoubleArgumentParser {
 
     public static final DoubleArgument DEFAULT_RANGE = new DoubleArgument(Double.MIN_VALUE, Double.MAX_VALUE);
 
@@ -55,16 +60,63 @@ public final class DoubleArgument implements ArgumentParser<Double> {
 
     @Override
     public Double parse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) throws NumberParseException, MissingInputException {
-        final String value = arguments.nextString();
+        return this.parseDouble(context, arguments);
+    }
+
+    @Override
+    public double parseDouble(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) throws NumberParseException, MissingInputException {
+        return parseDouble(arguments.nextString(), min, max);
+    }
+
+    @Override
+    public @NotNull ParseResult<Double> tryParse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) {
+        final @Nullable String value = arguments.pollString();
+        // ...
+        if (value == null)
+            return ParseResult.missing();
+        // ...
+        final double fast = Numbers.parseDouble(value);
+        // Handling plain decimals without allocating...
+        if (Double.isNaN(fast) == false)
+            return (fast < min || fast > max)
+                    ? ParseResult.failure(new DoubleArgument.RangeException(value, min, max))
+                    : ParseResult.success(fast);
+        // Falling back to BigDecimal for other inputs.
+        return parseSlow(value, min, max);
+    }
+
+    /**
+     * Parses specified {@link String} to {@code double} within specified range. Used by {@link ArgumentQueue#nextDouble()} and its variants.
+     */
+    @Internal
+    public static double parseDouble(final @NotNull String value, final double min, final double max) throws NumberParseException {
+        final double fast = Numbers.parseDouble(value);
+        // Handling plain decimals without allocating...
+        if (Double.isNaN(fast) == false) {
+            if (fast < min || fast > max)
+                throw new DoubleArgument.RangeException(value, min, max);
+            // ...
+            return fast;
+        }
+        // Falling back to BigDecimal for other inputs.
+        final ParseResult<Double> result = parseSlow(value, min, max);
+        // ...
+        if (result.isSuccess() == true)
+            return result.getValue();
+        // ...
+        throw (NumberParseException) result.getFailure();
+    }
+
+    private static @NotNull ParseResult<Double> parseSlow(final @NotNull String value, final double min, final double max) {
         try {
             final BigDecimal num = new BigDecimal(value);
-            // Throwing an exception in case provided number is out of specified range.
+            // Returning a failure in case provided number is out of specified range.
             if (BigDecimal.valueOf(min).compareTo(num) > 0 || BigDecimal.valueOf(max).compareTo(num) < 0)
-                throw new DoubleArgument.RangeException(value, min, max);
+                return ParseResult.failure(new DoubleArgument.RangeException(value, min, max));
             // Returning the number.
-            return num.doubleValue();
+            return ParseResult.success(num.doubleValue());
         } catch (final NumberFormatException e) {
-            throw new DoubleArgument.ParseException(value, e);
+            return ParseResult.failure(new DoubleArgument.ParseException(value, e));
         }
     }
 
@@ -26,7 +26,9 @@ package cloud.grabsky.commands.argument;
 import cloud.grabsky.commands.ArgumentQueue;
 import cloud.grabsky.commands.RootCommandContext;
 import cloud.grabsky.commands.component.ArgumentParser;
+import cloud.grabsky.commands.component.CompletionsIndex;
 import cloud.grabsky.commands.component.CompletionsProvider;
+import cloud.grabsky.commands.component.ParseResult;
 import cloud.grabsky.commands.exception.ArgumentParseException;
 import cloud.grabsky.commands.exception.MissingInputException;
 import cloud.grabsky.commands.util.Registries;
@@ -34,6 +36,7 @@ import org.bukkit.NamespacedKey;
 import org.bukkit.Registry;
 import org.bukkit.enchantments.Enchantment;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -43,28 +46,49 @@ import java.util.List;
 public enum EnchantmentArgument implements CompletionsProvider, ArgumentParser<Enchantment> {
     /* SINGLETON */ INSTANCE;
 
-    private static final List<String> MINECRAFT_ENCHANTMENT_NAMES = Registries.ENCHANTMENT.keySet().stream()
-            .sorted()
-            .toList();
+    private static final CompletionsIndex MINECRAFT_ENCHANTMENT_NAMES = CompletionsIndex.of(Registries.ENCHANTMENT.keySet(), CompletionsIndex.Mode.CONTAINS);
 
     @Override
     public @NotNull List<String> provide(final @NotNull RootCommandContext context) {
         return MINECRAFT_ENCHANTMENT_NAMES;
     }
 
+    @Override
+    public boolean isThreadSafe(final @NotNull RootCommandContext context) {
+        return true;
+    }
+
     @Override
     public Enchantment parse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) throws ArgumentParseException, MissingInputException {
         final String value = arguments.nextString();
-        final NamespacedKey key = NamespacedKey.fromString(value);
         // ...
-        if (key != null) {
-            final Enchantment enchantment = Registry.ENCHANTMENT.get(key);
-            if (enchantment != null)
-                return enchantment;
-        }
+        final @Nullable Enchantment enchantment = resolve(value);
+        // ...
+        if (enchantment != null)
+            return enchantment;
+        // ...
         throw new EnchantmentArgument.Exception(value);
     }
 
+    @Override
+    public @NotNull ParseResult<Enchantment> tryParse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) {
+        final @Nullable String value = arguments.pollString();
+        // ...
+        if (value == null)
+            return ParseResult.missing();
+        // ...
+        final @Nullable Enchantment enchantment = resolve(value);
+        // ...
+        return (enchantment != null) ? ParseResult.success(enchantment) : ParseResult.failure(new EnchantmentArgument.Exception(value));
+    }
+
+    // Returns Enchantment associated with specified input, or null if there is none.
+    private static @Nullable Enchantment resolve(final @NotNull String value) {
+        final @Nullable NamespacedKey key = NamespacedKey.fromString(value);
+        // ...
+        return (key != null) ? Registry.ENCHANTMENT.get(key) : null;
+    }
+
     /**
      * {@link Exception} is thrown when invalid key is provided for {@link Enchantment} argument type.
      */
@@ -26,7 +26,9 @@ package cloud.grabsky.commands.argument;
 import cloud.grabsky.commands.ArgumentQueue;
 import cloud.grabsky.commands.RootCommandContext;
 import cloud.grabsky.commands.component.ArgumentParser;
+import cloud.grabsky.commands.component.CompletionsIndex;
 import cloud.grabsky.commands.component.CompletionsProvider;
+import cloud.grabsky.commands.component.ParseResult;
 import cloud.grabsky.commands.exception.ArgumentParseException;
 import cloud.grabsky.commands.exception.MissingInputException;
 import cloud.grabsky.commands.util.Registries;
@@ -34,6 +36,7 @@ import org.bukkit.NamespacedKey;
 import org.bukkit.Registry;
 import org.bukkit.entity.EntityType;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -43,28 +46,49 @@ import java.util.List;
 public enum EntityTypeArgument implements CompletionsProvider, ArgumentParser<EntityType> {
     /* SINGLETON */ INSTANCE;
 
-    private static final List<String> MINECRAFT_ENTITY_TYPE_NAMES = Registries.ENTITY_TYPE.keySet().stream()
-            .sorted()
-            .toList();
+    private static final CompletionsIndex MINECRAFT_ENTITY_TYPE_NAMES = CompletionsIndex.of(Registries.ENTITY_TYPE.keySet(), CompletionsIndex.Mode.CONTAINS);
 
     @Override
     public @NotNull List<String> provide(final @NotNull RootCommandContext context) {
         return MINECRAFT_ENTITY_TYPE_NAMES;
     }
 
+    @Override
+    public boolean isThreadSafe(final @NotNull RootCommandContext context) {
+        return true;
+    }
+
     @Override
     public EntityType parse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) throws ArgumentParseException, MissingInputException {
         final String value = arguments.nextString();
-        final NamespacedKey key = NamespacedKey.fromString(value);
         // ...
-        if (key != null) {
-            final EntityType entity = Registry.ENTITY_TYPE.get(key);
-            if (entity != null)
-                return entity;
-        }
+        final @Nullable EntityType entity = resolve(value);
+        // ...
+        if (entity != null)
+            return entity;
+        // ...
         throw new EntityTypeArgument.Exception(value);
     }
 
+    @Override
+    public @NotNull ParseResult<EntityType> tryParse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) {
+        final @Nullable String value = arguments.pollString();
+        // ...
+        if (value == null)
+            return ParseResult.missing();
+        // ...
+        final @Nullable EntityType entity = resolve(value);
+        // ...
+        return (entity != null) ? ParseResult.success(entity) : ParseResult.failure(new EntityTypeArgument.Exception(value));
+    }
+
+    // Returns EntityType associated with specified input, or null if there is none.
+    private static @Nullable EntityType resolve(final @NotNull String value) {
+        final @Nullable NamespacedKey key = NamespacedKey.fromString(value);
+        // ...
+        return (key != null) ? Registry.ENTITY_TYPE.get(key) : null;
+    }
+
     /**
      * {@link Exception} is thrown when invalid key is provided for {@link EntityType} argument type.
      */
@@ -26,12 +26,15 @@ package cloud.grabsky.commands.argument;
 import cloud.grabsky.commands.ArgumentQueue;
 import cloud.grabsky.commands.RootCommandContext;
 import cloud.grabsky.commands.component.ArgumentParser;
+import cloud.grabsky.commands.component.ParseResult;
 import cloud.grabsky.commands.exception.MissingInputException;
 import cloud.grabsky.commands.exception.NumberParseException;
+import cloud.grabsky.commands.util.Numbers;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.math.BigDecimal;
 
@@ -56,15 +59,53 @@ public final class FloatArgument implements ArgumentParser<Float> {
     @Override
     public Float parse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) throws NumberParseException, MissingInputException {
         final String value = arguments.nextString();
+        // ...
+        final float fast = Numbers.parseFloat(value);
+        // Handling plain decimals without allocating...
+        if (Float.isNaN(fast) == false) {
+            if (fast < min || fast > max)
+                throw new FloatArgument.RangeException(value, min, max);
+            // ...
+            return fast;
+        }
+        // Falling back to BigDecimal for other inputs.
+        final ParseResult<Float> result = parseSlow(value, min, max);
+        // ...
+        if (result.isSuccess() == true)
+            return result.getValue();
+        // ...
+        throw (NumberParseException) result.getFailure();
+    }
+
+    @Override
+    public @NotNull ParseResult<Float> tryParse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) {
+        final @Nullable String value = arguments.pollString();
+        // ...
+        if (value == null)
+            return ParseResult.missing();
+        // ...
+        final float fast = Numbers.parseFloat(value);
+        // Handling plain decimals without allocating...
+        if (Float.isNaN(fast) == false) {
+            if (fast < min || fast > max)
+                return ParseResult.failure(new FloatArgument.RangeException(value, min, max));
+            // ...
+            return ParseResult.success(fast);
+        }
+        // Falling back to BigDecimal for other inputs.
+        return parseSlow(value, min, max);
+    }
+
+    private static @NotNull ParseResult<Float> parseSlow(final @NotNull String value, final float min, final float max) {
         try {
             final BigDecimal num = new BigDecimal(value);
-            // Throwing an exception in case provided number is out of specified range.
+            // Returning a failure in case provided number is out of specified range.
             if (BigDecimal.valueOf(min).compareTo(num) > 0 || BigDecimal.valueOf(max).compareTo(num) < 0)
-                throw new FloatArgument.RangeException(value, min, max);
+                return ParseResult.failure(new FloatArgument.RangeException(value, min, max));
             // Returning the number.
-            return num.floatValue();
+            return ParseResult.success(num.floatValue());
         } catch (final NumberFormatException e) {
-            throw new FloatArgument.ParseException(value, e);
+            return ParseResult.failure(new FloatArgument.ParseException(value, e));
         }
     }
 
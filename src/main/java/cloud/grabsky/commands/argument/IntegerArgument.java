@@ -26,12 +26,17 @@ package cloud.grabsky.commands.argument;
 import cloud.grabsky.commands.ArgumentQueue;
 import cloud.grabsky.commands.RootCommandContext;
 import cloud.grabsky.commands.component.ArgumentParser;
+import cloud.grabsky.commands.component.IntArgumentParser;
+import cloud.grabsky.commands.component.ParseResult;
 import cloud.grabsky.commands.exception.MissingInputException;
 import cloud.grabsky.commands.exception.NumberParseException;
+import cloud.grabsky.commands.util.Numbers;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.math.BigDecimal;
 
@@ -39,7 +44,7 @@ import java.math.BigDecimal;
  * Converts {@link String} literal to {@link Integer}.
  */
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-public final class IntegerArgument implements ArgumentParser<Integer> {
+public final class IntegerArgument implements IntArgumentParser {
 
     public static final IntegerArgument DEFAULT_RANGE = new IntegerArgument(Integer.MIN_VALUE, Integer.MAX_VALUE);
 
@@ -55,16 +60,63 @@ public final class IntegerArgument implements ArgumentParser<Integer> {
 
     @Override
     public Integer parse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) throws NumberParseException, MissingInputException {
-        final String value = arguments.nextString();
+        return this.parseInt(context, arguments);
+    }
+
+    @Override
+    public int parseInt(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) throws NumberParseException, MissingInputException {
+        return parseInt(arguments.nextString(), min, max);
+    }
+
+    @Override
+    public @NotNull ParseResult<Integer> tryParse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) {
+        final @Nullable String value = arguments.pollString();
+        // ...
+        if (value == null)
+            return ParseResult.missing();
+        // ...
+        final long fast = Numbers.parseLong(value);
+        // Handling plain integers without allocating...
+        if (fast != Numbers.NOT_PARSED)
+            return (fast < min || fast > max)
+                    ? ParseResult.failure(new IntegerArgument.RangeException(value, min, max))
+                    : ParseResult.success((int) fast);
+        // Falling back to BigDecimal for other inputs.
+        return parseSlow(value, min, max);
+    }
+
+    /**
+     * Parses specified {@link String} to {@code int} within specified range. Used by {@link ArgumentQueue#nextInt()} and its variants.
+     */
+    @Internal
+    public static int parseInt(final @NotNull String value, final int min, final int max) throws NumberParseException {
+        final long fast = Numbers.parseLong(value);
+        // Handling plain integers without allocating...
+        if (fast != Numbers.NOT_PARSED) {
+            if (fast < min || fast > max)
+                throw new IntegerArgument.RangeException(value, min, max);
+            // ...
+            return (int) fast;
+        }
+        // Falling back to BigDecimal for other inputs.
+        final ParseResult<Integer> result = parseSlow(value, min, max);
+        // ...
+        if (result.isSuccess() == true)
+            return result.getValue();
+        // ...
+        throw (NumberParseException) result.getFailure();
+    }
+
+    private static @NotNull ParseResult<Integer> parseSlow(final @NotNull String value, final int min, final int max) {
         try {
             final BigDecimal num = new BigDecimal(value);
-            // Throwing an exception in case provided number is out of specified range.
+            // Returning a failure in case provided number is out of specified range.
             if (BigDecimal.valueOf(min).compareTo(num) > 0 || BigDecimal.valueOf(max).compareTo(num) < 0)
-                throw new IntegerArgument.RangeException(value, min, max);
+                return ParseResult.failure(new IntegerArgument.RangeException(value, min, max));
             // Returning the number.
-            return num.intValue();
+            return ParseResult.success(num.intValue());
         } catch (final NumberFormatException e) {
-            throw new IntegerArgument.ParseException(value, e);
+            return ParseResult.failure(new IntegerArgument.ParseException(value, e));
         }
     }
 
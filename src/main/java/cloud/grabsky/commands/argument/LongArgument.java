@@ -26,12 +26,17 @@ package cloud.grabsky.commands.argument;
 import cloud.grabsky.commands.ArgumentQueue;
 import cloud.grabsky.commands.RootCommandContext;
 import cloud.grabsky.commands.component.ArgumentParser;
+import cloud.grabsky.commands.component.LongArgumentParser;
+import cloud.grabsky.commands.component.ParseResult;
 import cloud.grabsky.commands.exception.MissingInputException;
 import cloud.grabsky.commands.exception.NumberParseException;
+import cloud.grabsky.commands.util.Numbers;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.math.BigDecimal;
 
@@ -39,7 +44,7 @@ import java.math.BigDecimal;
  * Converts {@link String} literal to {@link Integer}.
  */
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-public final class LongArgument implements ArgumentParser<Long> {
+public final class LongArgument implements LongArgumentParser {
 
     public static final LongArgument DEFAULT_RANGE = new LongArgument(Long.MIN_VALUE, Long.MAX_VALUE);
 
@@ -55,16 +60,63 @@ public final class LongArgument implements ArgumentParser<Long> {
 
     @Override
     public Long parse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) throws NumberParseException, MissingInputException {
-        final String value = arguments.nextString();
+        return this.parseLong(context, arguments);
+    }
+
+    @Override
+    public long parseLong(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) throws NumberParseException, MissingInputException {
+        return parseLong(arguments.nextString(), min, max);
+    }
+
+    @Override
+    public @NotNull ParseResult<Long> tryParse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) {
+        final @Nullable String value = arguments.pollString();
+        // ...
+        if (value == null)
+            return ParseResult.missing();
+        // ...
+        final long fast = Numbers.parseLong(value);
+        // Handling plain integers without allocating...
+        if (fast != Numbers.NOT_PARSED)
+            return (fast < min || fast > max)
+                    ? ParseResult.failure(new LongArgument.RangeException(value, min, max))
+                    : ParseResult.success(fast);
+        // Falling back to BigDecimal for other inputs.
+        return parseSlow(value, min, max);
+    }
+
+    /**
+     * Parses specified {@link String} to {@code long} within specified range. Used by {@link ArgumentQueue#nextLong()} and its variants.
+     */
+    @Internal
+    public static long parseLong(final @NotNull String value, final long min, final long max) throws NumberParseException {
+        final long fast = Numbers.parseLong(value);
+        // Handling plain integers without allocating...
+        if (fast != Numbers.NOT_PARSED) {
+            if (fast < min || fast > max)
+                throw new LongArgument.RangeException(value, min, max);
+            // ...
+            return fast;
+        }
+        // Falling back to BigDecimal for other inputs.
+        final ParseResult<Long> result = parseSlow(value, min, max);
+        // ...
+        if (result.isSuccess() == true)
+            return result.getValue();
+        // ...
+        throw (NumberParseException) result.getFailure();
+    }
+
+    private static @NotNull ParseResult<Long> parseSlow(final @NotNull String value, final long min, final long max) {
         try {
             final BigDecimal num = new BigDecimal(value);
-            // Throwing an exception in case provided number is out of specified range.
+            // Returning a failure in case provided number is out of specified range.
             if (BigDecimal.valueOf(min).compareTo(num) > 0 || BigDecimal.valueOf(max).compareTo(num) < 0)
-                throw new LongArgument.RangeException(value, min, max);
+                return ParseResult.failure(new LongArgument.RangeException(value, min, max));
             // Returning the number.
-            return num.longValue();
+            return ParseResult.success(num.longValue());
         } catch (final NumberFormatException e) {
-            throw new LongArgument.ParseException(value, e);
+            return ParseResult.failure(new LongArgument.ParseException(value, e));
         }
     }
 
@@ -26,7 +26,9 @@ package cloud.grabsky.commands.argument;
 import cloud.grabsky.commands.ArgumentQueue;
 import cloud.grabsky.commands.RootCommandContext;
 import cloud.grabsky.commands.component.ArgumentParser;
+import cloud.grabsky.commands.component.CompletionsIndex;
 import cloud.grabsky.commands.component.CompletionsProvider;
+import cloud.grabsky.commands.component.ParseResult;
 import cloud.grabsky.commands.exception.ArgumentParseException;
 import cloud.grabsky.commands.exception.MissingInputException;
 import cloud.grabsky.commands.util.Registries;
@@ -34,6 +36,7 @@ import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.Registry;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -43,30 +46,49 @@ import java.util.List;
 public enum MaterialArgument implements CompletionsProvider, ArgumentParser<Material> {
     /* SINGLETON */ INSTANCE;
 
-    private static final List<String> MINECRAFT_MATERIAL_NAMES = Registries.MATERIAL.keySet().stream()
-            .sorted()
-            .toList();
+    private static final CompletionsIndex MINECRAFT_MATERIAL_NAMES = CompletionsIndex.of(Registries.MATERIAL.keySet(), CompletionsIndex.Mode.CONTAINS);
 
     @Override
     public @NotNull List<String> provide(final @NotNull RootCommandContext context) {
         return MINECRAFT_MATERIAL_NAMES;
     }
 
+    @Override
+    public boolean isThreadSafe(final @NotNull RootCommandContext context) {
+        return true;
+    }
+
     @Override
     public Material parse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) throws ArgumentParseException, MissingInputException {
         final String value = arguments.nextString();
         // ...
-        final NamespacedKey key = NamespacedKey.fromString(value);
+        final @Nullable Material material = resolve(value);
         // ...
-        if (key != null) {
-            final Material material = Registry.MATERIAL.get(key);
-            if (material != null)
-                return material;
-        }
+        if (material != null)
+            return material;
         // ...
         throw new MaterialArgument.Exception(value);
     }
 
+    @Override
+    public @NotNull ParseResult<Material> tryParse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) {
+        final @Nullable String value = arguments.pollString();
+        // ...
+        if (value == null)
+            return ParseResult.missing();
+        // ...
+        final @Nullable Material material = resolve(value);
+        // ...
+        return (material != null) ? ParseResult.success(material) : ParseResult.failure(new MaterialArgument.Exception(value));
+    }
+
+    // Returns Material associated with specified input, or null if there is none.
+    private static @Nullable Material resolve(final @NotNull String value) {
+        final @Nullable NamespacedKey key = NamespacedKey.fromString(value);
+        // ...
+        return (key != null) ? Registry.MATERIAL.get(key) : null;
+    }
+
     /**
      * {@link Exception} is thrown when invalid key is provided for {@link Material} argument type.
      */
@@ -26,10 +26,12 @@ package cloud.grabsky.commands.argument;
 import cloud.grabsky.commands.ArgumentQueue;
 import cloud.grabsky.commands.RootCommandContext;
 import cloud.grabsky.commands.component.ArgumentParser;
+import cloud.grabsky.commands.component.ParseResult;
 import cloud.grabsky.commands.exception.ArgumentParseException;
 import cloud.grabsky.commands.exception.MissingInputException;
 import org.bukkit.NamespacedKey;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Converts {@link String} literal to {@link NamespacedKey}.
@@ -41,7 +43,7 @@ public enum NamespacedKeyArgument implements ArgumentParser<NamespacedKey> {
     public NamespacedKey parse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) throws ArgumentParseException, MissingInputException {
         final String value = arguments.nextString();
         // ...
-        final NamespacedKey key = NamespacedKey.fromString(value);
+        final @Nullable NamespacedKey key = NamespacedKey.fromString(value);
         // ...
         if (key != null)
             return key;
@@ -49,6 +51,18 @@ public enum NamespacedKeyArgument implements ArgumentParser<NamespacedKey> {
         throw new NamespacedKeyArgument.Exception(value);
     }
 
+    @Override
+    public @NotNull ParseResult<NamespacedKey> tryParse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) {
+        final @Nullable String value = arguments.pollString();
+        // ...
+        if (value == null)
+            return ParseResult.missing();
+        // ...
+        final @Nullable NamespacedKey key = NamespacedKey.fromString(value);
+        // ...
+        return (key != null) ? ParseResult.success(key) : ParseResult.failure(new NamespacedKeyArgument.Exception(value));
+    }
+
     /**
      * {@link Exception} is thrown when invalid value is provided for {@link NamespacedKey} argument type.
      */
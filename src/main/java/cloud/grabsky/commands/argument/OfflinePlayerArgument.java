@@ -27,6 +27,8 @@ import cloud.grabsky.commands.ArgumentQueue;
 import cloud.grabsky.commands.RootCommandContext;
 import cloud.grabsky.commands.component.ArgumentParser;
 import cloud.grabsky.commands.component.CompletionsProvider;
+import cloud.grabsky.commands.component.CompletionsSink;
+import cloud.grabsky.commands.component.ParseResult;
 import cloud.grabsky.commands.exception.ArgumentParseException;
 import cloud.grabsky.commands.exception.IncompatibleSenderException;
 import cloud.grabsky.commands.exception.MissingInputException;
@@ -34,10 +36,10 @@ import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Stream;
 
 /**
  * Converts {@link String} literal to {@link OfflinePlayer}.
@@ -47,33 +49,30 @@ public enum OfflinePlayerArgument implements CompletionsProvider, ArgumentParser
 
     @Override
     public @NotNull List<String> provide(final @NotNull RootCommandContext context) {
-        return (context.getExecutor().isPlayer() == true)
-                ? Stream.concat(Bukkit.getOnlinePlayers().stream()
-                        .filter((player) -> context.getExecutor().asPlayer().canSee(player) == true) // Making sure not to show hidden players...
-                        .map(Player::getName), Stream.of("@self")).toList()
-                : Bukkit.getOnlinePlayers().stream()
-                        .map(Player::getName)
-                        .toList();
+        return PlayerArgument.INSTANCE.provide(context);
+    }
+
+    @Override
+    public void provide(final @NotNull RootCommandContext context, final @NotNull CompletionsSink sink) {
+        PlayerArgument.provideVisible(context, sink);
+    }
+
+    @Override
+    public boolean isThreadSafe(final @NotNull RootCommandContext context) {
+        return true;
     }
 
     @Override
     public @NotNull OfflinePlayer parse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) throws ArgumentParseException, MissingInputException, IncompatibleSenderException {
         final String value = arguments.nextString();
         // ...
-        final OfflinePlayer offlinePlayer = switch (value.toLowerCase()) {
-            case "@self" -> context.getExecutor().asPlayer();
-            default -> {
-                try {
-                    yield (Bukkit.getPlayerExact(value) != null)
-                            ? Bukkit.getPlayerExact(value)
-                            : (Bukkit.getOfflinePlayerIfCached(value) != null)
-                                    ? Bukkit.getOfflinePlayerIfCached(value)
-                                    : Bukkit.getOfflinePlayer(UUID.fromString(value));
-                } catch (final IllegalArgumentException e) {
-                    throw new OfflinePlayerArgument.Exception(value, e);
-                }
-            }
-        };
+        final @Nullable OfflinePlayer offlinePlayer;
+        // ...
+        try {
+            offlinePlayer = resolve(context, value);
+        } catch (final IllegalArgumentException e) {
+            throw new OfflinePlayerArgument.Exception(value, e);
+        }
         // ...
         if (offlinePlayer != null)
             return offlinePlayer;
@@ -81,6 +80,38 @@ public enum OfflinePlayerArgument implements CompletionsProvider, ArgumentParser
         throw new OfflinePlayerArgument.Exception(value);
     }
 
+    @Override
+    public @NotNull ParseResult<OfflinePlayer> tryParse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) {
+        final @Nullable String value = arguments.pollString();
+        // ...
+        if (value == null)
+            return ParseResult.missing();
+        // ...
+        final @Nullable OfflinePlayer offlinePlayer;
+        // ...
+        try {
+            offlinePlayer = resolve(context, value);
+        } catch (final IllegalArgumentException e) {
+            return ParseResult.failure(new OfflinePlayerArgument.Exception(value, e));
+        }
+        // ...
+        return (offlinePlayer != null) ? ParseResult.success(offlinePlayer) : ParseResult.failure(new OfflinePlayerArgument.Exception(value));
+    }
+
+    // Returns OfflinePlayer associated with specified input, or null if there is none. Throws IllegalArgumentException if input is neither a name nor a valid UUID.
+    private static @Nullable OfflinePlayer resolve(final @NotNull RootCommandContext context, final @NotNull String value) throws IllegalArgumentException {
+        if (value.equalsIgnoreCase("@self") == true)
+            return context.getExecutor().asPlayer();
+        // ...
+        final @Nullable Player online = context.getManager().getOnlineIndex().getPlayer(value);
+        // ...
+        return (online != null)
+                ? online
+                : (Bukkit.getOfflinePlayerIfCached(value) != null)
+                        ? Bukkit.getOfflinePlayerIfCached(value)
+                        : Bukkit.getOfflinePlayer(UUID.fromString(value));
+    }
+
     /**
      * {@link Exception} is thrown when invalid name or uuid is provided for {@link OfflinePlayer} argument type.
      */
@@ -24,18 +24,21 @@
 package cloud.grabsky.commands.argument;
 
 import cloud.grabsky.commands.ArgumentQueue;
+import cloud.grabsky.commands.OnlineIndex;
 import cloud.grabsky.commands.RootCommandContext;
 import cloud.grabsky.commands.component.ArgumentParser;
 import cloud.grabsky.commands.component.CompletionsProvider;
+import cloud.grabsky.commands.component.CompletionsSink;
+import cloud.grabsky.commands.component.ParseResult;
 import cloud.grabsky.commands.exception.ArgumentParseException;
 import cloud.grabsky.commands.exception.IncompatibleSenderException;
 import cloud.grabsky.commands.exception.MissingInputException;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Stream;
 
 /**
  * Converts {@link String} literal to {@link Player}.
@@ -46,22 +49,61 @@ public enum PlayerArgument implements CompletionsProvider, ArgumentParser<Player
 
     @Override
     public @NotNull List<String> provide(final @NotNull RootCommandContext context) {
-        return (context.getExecutor().isPlayer() == true)
-                ? Stream.concat(Bukkit.getOnlinePlayers().stream()
-                        .filter((player) -> context.getExecutor().asPlayer().canSee(player) == true) // Making sure not to show hidden players...
-                        .map(Player::getName), Stream.of("@self")).toList()
-                : Bukkit.getOnlinePlayers().stream()
-                        .map(Player::getName)
-                        .toList();
+        final OnlineIndex index = context.getManager().getOnlineIndex();
+        // ...
+        if (context.getExecutor().isPlayer() == false)
+            return index.getPlayerNames();
+        // ...
+        final Player viewer = context.getExecutor().asPlayer();
+        final List<String> result = new ArrayList<>(index.getPlayerNames().size() + 1);
+        // Making sure not to show hidden players...
+        for (final String name : index.getPlayerNames()) {
+            final @Nullable Player target = index.getPlayer(name);
+            // ...
+            if (target != null && index.canSee(viewer, target) == true)
+                result.add(name);
+        }
+        result.add("@self");
+        // ...
+        return result;
+    }
+
+    @Override
+    public void provide(final @NotNull RootCommandContext context, final @NotNull CompletionsSink sink) {
+        provideVisible(context, sink);
+    }
+
+    @Override
+    public boolean isThreadSafe(final @NotNull RootCommandContext context) {
+        return true;
+    }
+
+    /**
+     * Pushes names of online players visible to the executor to specified {@link CompletionsSink}, using names index for prefix lookup.
+     */
+    /* PACKAGE PRIVATE */ static void provideVisible(final @NotNull RootCommandContext context, final @NotNull CompletionsSink sink) {
+        final OnlineIndex index = context.getManager().getOnlineIndex();
+        // ...
+        if (context.getExecutor().isPlayer() == false) {
+            sink.acceptAll(index.getPlayerNames());
+            return;
+        }
+        final Player viewer = context.getExecutor().asPlayer();
+        // Making sure not to show hidden players...
+        for (final String name : index.getPlayerNames().filter(sink.getInput())) {
+            final @Nullable Player target = index.getPlayer(name);
+            // ...
+            if (target != null && index.canSee(viewer, target) == true && sink.accept(name) == false)
+                return;
+        }
+        sink.accept("@self");
     }
 
     @Override
     public @NotNull Player parse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) throws ArgumentParseException, MissingInputException, IncompatibleSenderException {
         final String value = arguments.nextString();
         // ...
-        final Player player = (value.equalsIgnoreCase("@self") == true)
-                ? context.getExecutor().asPlayer()
-                : Bukkit.getPlayerExact(value);
+        final @Nullable Player player = resolve(context, value);
         // ...
         if (player != null)
             return player;
@@ -69,6 +111,25 @@ public enum PlayerArgument implements CompletionsProvider, ArgumentParser<Player
         throw new PlayerArgument.Exception(value);
     }
 
+    @Override
+    public @NotNull ParseResult<Player> tryParse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) {
+        final @Nullable String value = arguments.pollString();
+        // ...
+        if (value == null)
+            return ParseResult.missing();
+        // ...
+        final @Nullable Player player = resolve(context, value);
+        // ...
+        return (player != null) ? ParseResult.success(player) : ParseResult.failure(new PlayerArgument.Exception(value));
+    }
+
+    // Returns Player associated with specified input, or null if there is none.
+    private static @Nullable Player resolve(final @NotNull RootCommandContext context, final @NotNull String value) {
+        return (value.equalsIgnoreCase("@self") == true)
+                ? context.getExecutor().asPlayer()
+                : context.getManager().getOnlineIndex().getPlayer(value);
+    }
+
     /**
      * {@link Exception} is thrown when invalid player name is provided for {@link Player} argument type.
      */
@@ -27,6 +27,7 @@ import cloud.grabsky.commands.ArgumentQueue;
 import cloud.grabsky.commands.RootCommandContext;
 import cloud.grabsky.commands.component.ArgumentParser;
 import cloud.grabsky.commands.component.CompletionsProvider;
+import cloud.grabsky.commands.component.ParseResult;
 import cloud.grabsky.commands.exception.ArgumentParseException;
 import cloud.grabsky.commands.exception.MissingInputException;
 import io.papermc.paper.math.Position;
@@ -51,29 +52,75 @@ public enum PositionArgument implements CompletionsProvider, ArgumentParser<Posi
         return List.of("@x @y @z");
     }
 
+    @Override
+    public boolean isThreadSafe(final @NotNull RootCommandContext context) {
+        return true;
+    }
+
     @Override
     public Position parse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) throws ArgumentParseException, MissingInputException {
-        final @NotNull String valueX = arguments.nextString();
-        final @NotNull String valueY = arguments.nextString();
-        final @NotNull String valueZ = arguments.nextString();
+        final String valueX = arguments.nextString();
+        final String valueY = arguments.nextString();
+        final String valueZ = arguments.nextString();
         // ...
         final @Nullable Player player = (context.getExecutor().isPlayer() == true) ? context.getExecutor().asPlayer() : null;
+        final @Nullable Position position = resolve(player, valueX, valueY, valueZ);
         // ...
-        final Double x = (player != null && "@x".equalsIgnoreCase(valueX) == true) ? (Double) player.getLocation().x() : parseDouble(valueX);
-        final Double y = (player != null && "@y".equalsIgnoreCase(valueY) == true) ? (Double) player.getLocation().y() : parseDouble(valueY);
-        final Double z = (player != null && "@z".equalsIgnoreCase(valueZ) == true) ? (Double) player.getLocation().z() : parseDouble(valueZ);
+        if (position != null)
+            return position;
         // ...
-        if (x == null || y == null || z == null) {
-            final String input = new StringBuilder()
-                    .append(x != null ? toRoundedDouble(x) : valueX).append(" ")
-                    .append(y != null ? toRoundedDouble(y) : valueY).append(" ")
-                    .append(z != null ? toRoundedDouble(z) : valueZ)
-                    .toString();
-            // ...
-            throw new PositionArgument.Exception(input);
-        }
+        throw createException(player, valueX, valueY, valueZ);
+    }
+
+    @Override
+    public @NotNull ParseResult<Position> tryParse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) {
+        final @Nullable String valueX = arguments.pollString();
+        final @Nullable String valueY = arguments.pollString();
+        final @Nullable String valueZ = arguments.pollString();
+        // ...
+        if (valueX == null || valueY == null || valueZ == null)
+            return ParseResult.missing();
+        // ...
+        final @Nullable Player player = (context.getExecutor().isPlayer() == true) ? context.getExecutor().asPlayer() : null;
+        final @Nullable Position position = resolve(player, valueX, valueY, valueZ);
+        // ...
+        return (position != null) ? ParseResult.success(position) : ParseResult.failure(createException(player, valueX, valueY, valueZ));
+    }
+
+    // Returns Position described by specified coordinates, or null if any of them is invalid.
+    private static @Nullable Position resolve(final @Nullable Player player, final @NotNull String valueX, final @NotNull String valueY, final @NotNull String valueZ) {
+        final @Nullable Double x = coordinate(player, "@x", valueX);
+        final @Nullable Double y = coordinate(player, "@y", valueY);
+        final @Nullable Double z = coordinate(player, "@z", valueZ);
+        // ...
+        return (x != null && y != null && z != null) ? Position.fine(x, y, z) : null;
+    }
+
+    // Creates exception describing invalid coordinates, with valid ones rounded.
+    private static @NotNull PositionArgument.Exception createException(final @Nullable Player player, final @NotNull String valueX, final @NotNull String valueY, final @NotNull String valueZ) {
+        final @Nullable Double x = coordinate(player, "@x", valueX);
+        final @Nullable Double y = coordinate(player, "@y", valueY);
+        final @Nullable Double z = coordinate(player, "@z", valueZ);
+        // ...
+        final String input = new StringBuilder()
+                .append(x != null ? toRoundedDouble(x) : valueX).append(" ")
+                .append(y != null ? toRoundedDouble(y) : valueY).append(" ")
+                .append(z != null ? toRoundedDouble(z) : valueZ)
+                .toString();
+        // ...
+        return new PositionArgument.Exception(input);
+    }
+
+    // Returns coordinate described by specified value, or null if it is invalid. Placeholder is resolved from location of the player, if present.
+    private static @Nullable Double coordinate(final @Nullable Player player, final @NotNull String placeholder, final @NotNull String value) {
+        if (player != null && placeholder.equalsIgnoreCase(value) == true)
+            return switch (placeholder) {
+                case "@x" -> player.getLocation().x();
+                case "@y" -> player.getLocation().y();
+                default -> player.getLocation().z();
+            };
         // ...
-        return Position.fine(x, y, z);
+        return parseDouble(value);
     }
 
     private static @Nullable Double parseDouble(final @NotNull String value) {
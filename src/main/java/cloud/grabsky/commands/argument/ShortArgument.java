@@ -26,12 +26,15 @@ package cloud.grabsky.commands.argument;
 import cloud.grabsky.commands.ArgumentQueue;
 import cloud.grabsky.commands.RootCommandContext;
 import cloud.grabsky.commands.component.ArgumentParser;
+import cloud.grabsky.commands.component.ParseResult;
 import cloud.grabsky.commands.exception.MissingInputException;
 import cloud.grabsky.commands.exception.NumberParseException;
+import cloud.grabsky.commands.util.Numbers;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.math.BigDecimal;
 
@@ -56,15 +59,53 @@ public final class ShortArgument implements ArgumentParser<Short> {
     @Override
     public Short parse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) throws NumberParseException, MissingInputException {
         final String value = arguments.nextString();
+        // ...
+        final long fast = Numbers.parseLong(value);
+        // Handling plain integers without allocating...
+        if (fast != Numbers.NOT_PARSED) {
+            if (fast < min || fast > max)
+                throw new ShortArgument.RangeException(value, min, max);
+            // ...
+            return (short) fast;
+        }
+        // Falling back to BigDecimal for other inputs.
+        final ParseResult<Short> result = parseSlow(value, min, max);
+        // ...
+        if (result.isSuccess() == true)
+            return result.getValue();
+        // ...
+        throw (NumberParseException) result.getFailure();
+    }
+
+    @Override
+    public @NotNull ParseResult<Short> tryParse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) {
+        final @Nullable String value = arguments.pollString();
+        // ...
+        if (value == null)
+            return ParseResult.missing();
+        // ...
+        final long fast = Numbers.parseLong(value);
+        // Handling plain integers without allocating...
+        if (fast != Numbers.NOT_PARSED) {
+            if (fast < min || fast > max)
+                return ParseResult.failure(new ShortArgument.RangeException(value, min, max));
+            // ...
+            return ParseResult.success((short) fast);
+        }
+        // Falling back to BigDecimal for other inputs.
+        return parseSlow(value, min, max);
+    }
+
+    private static @NotNull ParseResult<Short> parseSlow(final @NotNull String value, final short min, final short max) {
         try {
             final BigDecimal num = new BigDecimal(value);
-            // Throwing an exception in case provided number is out of specified range.
+            // Returning a failure in case provided number is out of specified range.
             if (BigDecimal.valueOf(min).compareTo(num) > 0 || BigDecimal.valueOf(max).compareTo(num) < 0)
-                throw new ShortArgument.RangeException(value, min, max);
+                return ParseResult.failure(new ShortArgument.RangeException(value, min, max));
             // Returning the number.
-            return num.shortValue();
+            return ParseResult.success(num.shortValue());
         } catch (final NumberFormatException e) {
-            throw new ShortArgument.ParseException(value, e);
+            return ParseResult.failure(new ShortArgument.ParseException(value, e));
         }
     }
 
@@ -26,8 +26,10 @@ package cloud.grabsky.commands.argument;
 import cloud.grabsky.commands.ArgumentQueue;
 import cloud.grabsky.commands.RootCommandContext;
 import cloud.grabsky.commands.component.ArgumentParser;
+import cloud.grabsky.commands.component.ParseResult;
 import cloud.grabsky.commands.exception.MissingInputException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public enum StringArgument implements ArgumentParser<String> {
 
@@ -41,6 +43,13 @@ public enum StringArgument implements ArgumentParser<String> {
             return arguments.nextString();
         }
 
+        @Override
+        public @NotNull ParseResult<String> tryParse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) {
+            final @Nullable String value = arguments.pollString();
+            // ...
+            return (value != null) ? ParseResult.success(value) : ParseResult.missing();
+        }
+
     },
 
     /**
@@ -60,6 +69,11 @@ public enum StringArgument implements ArgumentParser<String> {
             return builder.toString();
         }
 
+        @Override
+        public @NotNull ParseResult<String> tryParse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) {
+            return (arguments.hasNext() == true) ? ParseResult.success(this.parse(context, arguments)) : ParseResult.missing();
+        }
+
     }
 
 }
@@ -26,9 +26,11 @@ package cloud.grabsky.commands.argument;
 import cloud.grabsky.commands.ArgumentQueue;
 import cloud.grabsky.commands.RootCommandContext;
 import cloud.grabsky.commands.component.ArgumentParser;
+import cloud.grabsky.commands.component.ParseResult;
 import cloud.grabsky.commands.exception.ArgumentParseException;
 import cloud.grabsky.commands.exception.MissingInputException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.UUID;
 
@@ -49,6 +51,20 @@ public enum UUIDArgument implements ArgumentParser<UUID> {
         }
     }
 
+    @Override
+    public @NotNull ParseResult<UUID> tryParse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) {
+        final @Nullable String value = arguments.pollString();
+        // ...
+        if (value == null)
+            return ParseResult.missing();
+        // ...
+        try {
+            return ParseResult.success(UUID.fromString(value));
+        } catch (final IllegalArgumentException exc) {
+            return ParseResult.failure(new UUIDArgument.Exception(value, exc));
+        }
+    }
+
     /**
      * {@link Exception} is thrown when invalid value is provided for {@link UUID} argument type.
      */
@@ -27,15 +27,17 @@ import cloud.grabsky.commands.ArgumentQueue;
 import cloud.grabsky.commands.RootCommandContext;
 import cloud.grabsky.commands.component.ArgumentParser;
 import cloud.grabsky.commands.component.CompletionsProvider;
+import cloud.grabsky.commands.component.CompletionsSink;
+import cloud.grabsky.commands.component.ParseResult;
 import cloud.grabsky.commands.exception.ArgumentParseException;
 import cloud.grabsky.commands.exception.MissingInputException;
-import org.bukkit.Bukkit;
 import org.bukkit.NamespacedKey;
 import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Stream;
 
 /**
  * Converts {@link String} literal to {@link World}. World must be loaded in order to be resolved.
@@ -45,23 +47,58 @@ public enum WorldArgument implements CompletionsProvider, ArgumentParser<World>
 
     @Override
     public @NotNull List<String> provide(final @NotNull RootCommandContext context) {
-        return Stream.concat(Stream.of("@world"), Bukkit.getWorlds().stream().map(world -> world.key().asString())).toList();
+        final List<String> names = context.getManager().getOnlineIndex().getWorldNames();
+        final List<String> result = new ArrayList<>(names.size() + 1);
+        // ...
+        result.add("@world");
+        result.addAll(names);
+        // ...
+        return result;
+    }
+
+    @Override
+    public void provide(final @NotNull RootCommandContext context, final @NotNull CompletionsSink sink) {
+        if (sink.accept("@world") == true)
+            sink.acceptAll(context.getManager().getOnlineIndex().getWorldNames());
+    }
+
+    @Override
+    public boolean isThreadSafe(final @NotNull RootCommandContext context) {
+        return true;
     }
 
     @Override
     public World parse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) throws ArgumentParseException, MissingInputException {
-        final String value = arguments.next(String.class).asRequired();
+        final String value = arguments.nextString();
+        // ...
+        final @Nullable World world = resolve(context, value);
         // ...
+        if (world != null)
+            return world;
+        // ...
+        throw new WorldArgument.Exception(value);
+    }
+
+    @Override
+    public @NotNull ParseResult<World> tryParse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) {
+        final @Nullable String value = arguments.pollString();
+        // ...
+        if (value == null)
+            return ParseResult.missing();
+        // ...
+        final @Nullable World world = resolve(context, value);
+        // ...
+        return (world != null) ? ParseResult.success(world) : ParseResult.failure(new WorldArgument.Exception(value));
+    }
+
+    // Returns World associated with specified input, or null if there is none.
+    private static @Nullable World resolve(final @NotNull RootCommandContext context, final @NotNull String value) {
         if (value.equalsIgnoreCase("@world") == true)
             return context.getExecutor().asPlayer().getWorld();
         // ...
-        final NamespacedKey key = NamespacedKey.fromString(value);
+        final @Nullable NamespacedKey key = NamespacedKey.fromString(value);
         // ...
-        for (final World world : Bukkit.getWorlds()) {
-            if (world.key().equals(key) == true)
-                return world;
-        }
-        throw new WorldArgument.Exception(value);
+        return (key != null) ? context.getManager().getOnlineIndex().getWorld(key) : null;
     }
 
     /**
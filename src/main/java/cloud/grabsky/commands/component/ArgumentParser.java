@@ -36,4 +36,20 @@ public interface ArgumentParser<T> {
 
     T parse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) throws ArgumentParseException, MissingInputException;
 
+    /**
+     * Parses next argument(s) of {@link ArgumentQueue} and returns {@link ParseResult ParseResult&lt;T&gt;}, without throwing on missing or invalid input.
+     * <br />
+     * <br />
+     * Default implementation adapts {@link #parse} and should be overridden by parsers that can report failures without throwing.
+     */
+    default @NotNull ParseResult<T> tryParse(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) {
+        try {
+            return ParseResult.success(this.parse(context, arguments));
+        } catch (final MissingInputException e) {
+            return ParseResult.missing();
+        } catch (final ArgumentParseException e) {
+            return ParseResult.failure(e);
+        }
+    }
+
 }
@@ -0,0 +1,204 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands.component;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.RandomAccess;
+import java.util.TreeSet;
+
+/**
+ * {@link CompletionsIndex} is an immutable, sorted {@link List List&lt;String&gt;} of completions with precomputed case-folded keys.
+ * It can be returned directly from {@link CompletionsProvider#provide}, in which case completions are filtered using the index
+ * instead of testing each element separately.
+ * <br />
+ * <br />
+ * In {@link Mode#PREFIX} mode, lookup takes {@code O(log n + k)} and matches input against start of the completion, as well
+ * as start of each segment following {@code ':'} or {@code '_'} separator. Input {@code "ore"} matches {@code "minecraft:iron_ore"}.
+ */
+@Unmodifiable
+public final class CompletionsIndex extends AbstractList<String> implements RandomAccess {
+
+    private static final String SEPARATORS = ":_";
+
+    private final String[] values;
+    private final String[] foldedValues;
+    private final String[] keys;
+    private final int[] owners;
+    private final Mode mode;
+
+    private CompletionsIndex(final @NotNull Collection<String> completions, final @NotNull Mode mode) {
+        this.mode = mode;
+        this.values = new TreeSet<>(completions).toArray(String[]::new);
+        this.foldedValues = new String[values.length];
+        // Collecting keys; each key points to the completion it was created from.
+        final List<Key> keys = new ArrayList<>(values.length * 2);
+        // ...
+        for (int i = 0; i < values.length; i++) {
+            final String folded = values[i].toLowerCase(Locale.ROOT);
+            // ...
+            foldedValues[i] = folded;
+            keys.add(new Key(folded, i));
+            // Adding segments following separators...
+            if (mode == Mode.PREFIX)
+                for (int j = 0; j < folded.length() - 1; j++)
+                    if (SEPARATORS.indexOf(folded.charAt(j)) != -1)
+                        keys.add(new Key(folded.substring(j + 1), i));
+        }
+        // Sorting keys for binary search...
+        keys.sort(Comparator.comparing(Key::value));
+        // ...
+        this.keys = new String[keys.size()];
+        this.owners = new int[keys.size()];
+        // ...
+        for (int i = 0; i < keys.size(); i++) {
+            this.keys[i] = keys.get(i).value();
+            this.owners[i] = keys.get(i).owner();
+        }
+    }
+
+    /**
+     * Creates {@link CompletionsIndex} of specified completions, matched using {@link Mode#PREFIX} mode.
+     */
+    public static @NotNull CompletionsIndex of(final @NotNull Collection<String> completions) {
+        return new CompletionsIndex(completions, Mode.PREFIX);
+    }
+
+    /**
+     * Creates {@link CompletionsIndex} of specified completions, matched using specified {@link Mode}.
+     */
+    public static @NotNull CompletionsIndex of(final @NotNull Collection<String> completions, final @NotNull Mode mode) {
+        return new CompletionsIndex(completions, mode);
+    }
+
+    @Override
+    public String get(final int index) {
+        return values[index];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns completions matching specified input, sorted alphabetically. Matching is case-insensitive.
+     */
+    public @NotNull @Unmodifiable List<String> filter(final @NotNull String input) {
+        if (input.isEmpty() == true)
+            return this;
+        // ...
+        final String folded = input.toLowerCase(Locale.ROOT);
+        // ...
+        return (mode == Mode.PREFIX) ? this.filterPrefix(folded) : this.filterContains(folded);
+    }
+
+    /**
+     * Returns {@code true} if specified completion is matched by specified input, according to {@link Mode} of this index. Matching is case-insensitive.
+     */
+    public boolean matches(final @NotNull String completion, final @NotNull String input) {
+        final String folded = completion.toLowerCase(Locale.ROOT);
+        final String foldedInput = input.toLowerCase(Locale.ROOT);
+        // ...
+        if (mode == Mode.CONTAINS)
+            return folded.contains(foldedInput);
+        // ...
+        if (folded.startsWith(foldedInput) == true)
+            return true;
+        // Testing segments following separators...
+        for (int j = 0; j < folded.length() - 1; j++)
+            if (SEPARATORS.indexOf(folded.charAt(j)) != -1 && folded.startsWith(foldedInput, j + 1) == true)
+                return true;
+        // ...
+        return false;
+    }
+
+    private @NotNull List<String> filterPrefix(final @NotNull String folded) {
+        final BitSet matches = new BitSet(values.length);
+        // Marking owners of all keys starting with the input...
+        for (int i = lowerBound(keys, folded); i < keys.length && keys[i].startsWith(folded) == true; i++)
+            matches.set(owners[i]);
+        // Collecting matches in the alphabetical order...
+        final List<String> result = new ArrayList<>(matches.cardinality());
+        // ...
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1))
+            result.add(values[i]);
+        // ...
+        return result;
+    }
+
+    private @NotNull List<String> filterContains(final @NotNull String folded) {
+        final List<String> result = new ArrayList<>();
+        // ...
+        for (int i = 0; i < values.length; i++)
+            if (foldedValues[i].contains(folded) == true)
+                result.add(values[i]);
+        // ...
+        return result;
+    }
+
+    // Returns index of the first element that is greater than or equal to specified key.
+    private static int lowerBound(final @NotNull String[] array, final @NotNull String key) {
+        int low = 0;
+        int high = array.length;
+        // ...
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            // ...
+            if (array[middle].compareTo(key) < 0)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        return low;
+    }
+
+    private record Key(String value, int owner) { /* DATA */ }
+
+    /**
+     * {@link Mode} defines how input is matched against completions.
+     */
+    public enum Mode {
+
+        /**
+         * Matches completions starting with the input, or having a segment (following {@code ':'} or {@code '_'}) starting with the input.
+         */
+        PREFIX,
+
+        /**
+         * Matches completions containing the input.
+         */
+        CONTAINS
+
+    }
+
+}
@@ -47,16 +47,16 @@ public interface CompletionsProvider {
     /**
      * Returns instance of {@link CompletionsProvider} that provides no completions.
      */
-    CompletionsProvider EMPTY = (context) -> Arrays.EMPTY_STRING_LIST;
+    CompletionsProvider EMPTY = threadSafe((context) -> Arrays.EMPTY_STRING_LIST);
 
     // TO-DO: Javadocs
     static @NotNull CompletionsProvider of(final List<String> completions) {
-        return (context) -> completions;
+        return (context) -> completions; // Not thread-safe, as specified list may be modified.
     }
 
     // TO-DO: Javadocs
     static @NotNull CompletionsProvider of(final String... completions) {
-        return (context) -> toArrayList(completions);
+        return threadSafe((context) -> toArrayList(completions));
     }
 
     /**
@@ -90,7 +90,48 @@ public interface CompletionsProvider {
 
     // TO-DO: Javadocs
     static @NotNull CompletionsProvider of(final Class<?> type) {
-        return (context) -> context.getManager().getCompletionsProvider(type).provide(context);
+        return new CompletionsProvider() {
+
+            @Override
+            public @NotNull List<String> provide(final @NotNull RootCommandContext context) throws CommandLogicException {
+                return context.getManager().getCompletionsProvider(type).provide(context);
+            }
+
+            @Override
+            public void provide(final @NotNull RootCommandContext context, final @NotNull CompletionsSink sink) throws CommandLogicException {
+                context.getManager().getCompletionsProvider(type).provide(context, sink);
+            }
+
+            @Override
+            public boolean isThreadSafe(final @NotNull RootCommandContext context) {
+                return context.getManager().getCompletionsProvider(type).isThreadSafe(context);
+            }
+
+        };
+    }
+
+    /**
+     * Returns {@link CompletionsProvider} that delegates to specified {@link CompletionsProvider} and is marked as thread-safe.
+     */
+    static @NotNull CompletionsProvider threadSafe(final @NotNull CompletionsProvider provider) {
+        return new CompletionsProvider() {
+
+            @Override
+            public @NotNull List<String> provide(final @NotNull RootCommandContext context) throws CommandLogicException {
+                return provider.provide(context);
+            }
+
+            @Override
+            public void provide(final @NotNull RootCommandContext context, final @NotNull CompletionsSink sink) throws CommandLogicException {
+                provider.provide(context, sink);
+            }
+
+            @Override
+            public boolean isThreadSafe(final @NotNull RootCommandContext context) {
+                return true;
+            }
+
+        };
     }
 
     // TO-DO: Javadocs
@@ -105,4 +146,19 @@ public interface CompletionsProvider {
 
     @NotNull List<String> provide(final @NotNull RootCommandContext context) throws CommandLogicException;
 
+    /**
+     * Pushes completions to specified {@link CompletionsSink}. Default implementation pushes all elements returned by {@link #provide(RootCommandContext)}.
+     * Providers of large sets should override this method and stop as soon as {@link CompletionsSink#accept} returns {@code false}.
+     */
+    default void provide(final @NotNull RootCommandContext context, final @NotNull CompletionsSink sink) throws CommandLogicException {
+        sink.acceptAll(this.provide(context));
+    }
+
+    /**
+     * Returns {@code true} if this {@link CompletionsProvider} can be safely called off the main thread. Defaults to {@code false}.
+     */
+    default boolean isThreadSafe(final @NotNull RootCommandContext context) {
+        return false;
+    }
+
 }
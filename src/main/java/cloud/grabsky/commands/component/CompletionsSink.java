@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands.component;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@link CompletionsSink} collects completions pushed by {@link CompletionsProvider#provide(cloud.grabsky.commands.RootCommandContext, CompletionsSink)}.
+ * Completions not matching current input are discarded and collecting stops once the limit is reached,
+ * which allows providers of very large sets to stop early instead of materializing all completions.
+ */
+public final class CompletionsSink {
+
+    private final String input;
+    private final String foldedInput;
+    private final int limit;
+
+    private @Nullable List<String> completions = null;
+    private boolean owned = false;
+
+    // Index all completions were pushed from; null if there was none, or completions were pushed from multiple sources.
+    private @Nullable CompletionsIndex source = null;
+    private boolean pushed = false;
+
+    @Internal
+    public CompletionsSink(final @NotNull String input, final int limit) throws IllegalArgumentException {
+        if (limit < 1)
+            throw new IllegalArgumentException("Limit must be greater than 0.");
+        // ...
+        this.input = input;
+        this.foldedInput = input.toLowerCase(Locale.ROOT);
+        this.limit = limit;
+    }
+
+    /**
+     * Returns input completions are matched against.
+     */
+    public @NotNull String getInput() {
+        return input;
+    }
+
+    /**
+     * Returns {@code true} if limit has been reached and no more completions can be accepted. Collected completions may be incomplete in such case.
+     */
+    public boolean isFull() {
+        return completions != null && completions.size() >= limit;
+    }
+
+    /**
+     * Pushes specified completion to this sink. Completion is discarded if it does not contain current input. Matching is case-insensitive.
+     *
+     * @return {@code false} if limit has been reached and provider should stop pushing completions, {@code true} otherwise.
+     */
+    public boolean accept(final @NotNull String completion) {
+        source = null;
+        pushed = true;
+        // ...
+        if (completion.toLowerCase(Locale.ROOT).contains(foldedInput) == false)
+            return this.isFull() == false;
+        // ...
+        return this.add(completion);
+    }
+
+    /**
+     * Pushes specified completions to this sink. {@link CompletionsIndex} is filtered using the index.
+     *
+     * @return {@code false} if limit has been reached and provider should stop pushing completions, {@code true} otherwise.
+     */
+    public boolean acceptAll(final @NotNull List<String> completions) {
+        if (completions instanceof CompletionsIndex index) {
+            source = (pushed == false) ? index : null;
+            pushed = true;
+            // ...
+            final List<String> filtered = index.filter(input);
+            // Adopting filtered list as-is when it is the only source and fits within the limit...
+            if (this.completions == null && filtered.size() <= limit) {
+                this.completions = filtered;
+                return filtered.size() < limit;
+            }
+            // ...
+            for (final String completion : filtered)
+                if (this.add(completion) == false)
+                    return false;
+            // ...
+            return true;
+        }
+        // ...
+        for (final String completion : completions)
+            if (this.accept(completion) == false)
+                return false;
+        // ...
+        return true;
+    }
+
+    /**
+     * Returns collected completions.
+     */
+    @Internal
+    public @NotNull List<String> getCompletions() {
+        return (completions != null) ? completions : List.of();
+    }
+
+    /**
+     * Returns {@link CompletionsIndex} all completions were pushed from, or {@code null} if they came from elsewhere.
+     */
+    @Internal
+    public @Nullable CompletionsIndex getSource() {
+        return source;
+    }
+
+    // Adds completion that is known to be matching. Returns false when limit has been reached.
+    private boolean add(final @NotNull String completion) {
+        if (this.isFull() == true)
+            return false;
+        // Copying adopted list before modifying it...
+        if (owned == false) {
+            completions = (completions != null) ? new ArrayList<>(completions) : new ArrayList<>();
+            owned = true;
+        }
+        completions.add(completion);
+        // ...
+        return completions.size() < limit;
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands.component;
+
+import cloud.grabsky.commands.exception.ArgumentParseException;
+import cloud.grabsky.commands.exception.MissingInputException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnknownNullability;
+
+/**
+ * {@link ParseResult ParseResult&lt;T&gt;} represents outcome of {@link ArgumentParser#tryParse} call, which is either
+ * successfully parsed value, missing input or a failure described by {@link ArgumentParseException} that has not been thrown.
+ */
+public final class ParseResult<T> {
+
+    private static final ParseResult<?> MISSING = new ParseResult<>(null, null, true);
+
+    private final @Nullable T value;
+    private final @Nullable ArgumentParseException failure;
+    private final boolean missing;
+
+    private ParseResult(final @Nullable T value, final @Nullable ArgumentParseException failure, final boolean missing) {
+        this.value = value;
+        this.failure = failure;
+        this.missing = missing;
+    }
+
+    /**
+     * Returns {@link ParseResult ParseResult&lt;T&gt;} representing successfully parsed {@code value}.
+     */
+    public static <T> @NotNull ParseResult<T> success(final T value) {
+        return new ParseResult<>(value, null, false);
+    }
+
+    /**
+     * Returns {@link ParseResult ParseResult&lt;T&gt;} representing missing input.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @NotNull ParseResult<T> missing() {
+        return (ParseResult<T>) MISSING;
+    }
+
+    /**
+     * Returns {@link ParseResult ParseResult&lt;T&gt;} representing failure described by specified {@link ArgumentParseException}.
+     */
+    public static <T> @NotNull ParseResult<T> failure(final @NotNull ArgumentParseException failure) {
+        return new ParseResult<>(null, failure, false);
+    }
+
+    /**
+     * Returns {@code true} if value has been successfully parsed.
+     */
+    public boolean isSuccess() {
+        return missing == false && failure == null;
+    }
+
+    /**
+     * Returns {@code true} if input was missing.
+     */
+    public boolean isMissing() {
+        return missing == true;
+    }
+
+    /**
+     * Returns {@code true} if input was present but could not be parsed.
+     */
+    public boolean isFailure() {
+        return failure != null;
+    }
+
+    /**
+     * Returns parsed value, or {@code null} if this {@link ParseResult} is not a success.
+     */
+    public @UnknownNullability T getValue() {
+        return value;
+    }
+
+    /**
+     * Returns {@link ArgumentParseException} describing the failure, or {@code null} if this {@link ParseResult} is not a failure.
+     */
+    public @Nullable ArgumentParseException getFailure() {
+        return failure;
+    }
+
+    /**
+     * Returns parsed value, or specified {@code def} if this {@link ParseResult} is not a success.
+     */
+    public T orElse(final T def) {
+        return (this.isSuccess() == true) ? value : def;
+    }
+
+    /**
+     * Returns parsed value, or throws exception describing why value is not present.
+     */
+    public T orThrow() throws ArgumentParseException, MissingInputException {
+        if (missing == true)
+            throw MissingInputException.shared();
+        // ...
+        if (failure != null)
+            throw failure;
+        // ...
+        return value;
+    }
+
+}
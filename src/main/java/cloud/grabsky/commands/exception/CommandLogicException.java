@@ -35,10 +35,15 @@ import static org.jetbrains.annotations.ApiStatus.Internal;
 
 /**
  * {@link CommandLogicException} is a base exception class that acts as a "safe" return point for commands.
+ * <br />
+ * <br />
+ * Exceptions of this type are used for control-flow and are thrown on routine user errors, therefore
+ * they do not capture stack trace and do not record suppressed exceptions.
  *
  * @apiNote This exception is safe to be thrown within command logic and <b><u>should not</u></b> be manually handled using {@code try...catch} block.
  *
  * @see ArgumentParseException
+ * @see CommandTimeoutException
  * @see IncompatibleParserException
  * @see IncompatibleSenderException
  * @see MissingInputException
@@ -46,11 +51,11 @@ import static org.jetbrains.annotations.ApiStatus.Internal;
 public class CommandLogicException extends RuntimeException implements Consumer<RootCommandContext> {
 
     protected CommandLogicException() {
-        super();
+        super(null, null, false, false);
     }
 
     public CommandLogicException(final Throwable cause) {
-        super(cause);
+        super((cause != null) ? cause.toString() : null, cause, false, false);
     }
 
     @Override
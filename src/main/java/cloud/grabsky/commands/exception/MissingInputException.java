@@ -23,6 +23,10 @@
  */
 package cloud.grabsky.commands.exception;
 
+import org.jetbrains.annotations.NotNull;
+
+import static org.jetbrains.annotations.ApiStatus.Internal;
+
 /**
  * {@link MissingInputException} is thrown when command input is expected but not present.
  *
@@ -30,6 +34,9 @@ package cloud.grabsky.commands.exception;
  */
 public class MissingInputException extends CommandLogicException {
 
+    // Shared instance thrown when input is absent. Exception has no message, cause, stack trace or suppressed exceptions, and none of these can be set afterwards.
+    private static final MissingInputException SHARED = new MissingInputException();
+
     public MissingInputException() {
         super();
     }
@@ -38,4 +45,15 @@ public class MissingInputException extends CommandLogicException {
         super(cause);
     }
 
+    /**
+     * Returns shared instance of {@link MissingInputException}, thrown by the library itself when input is absent.
+     *
+     * @apiNote This is internal API that can change at any time. Returned instance <b><u>must not</u></b> be thrown, stored or wrapped by user code,
+     *          as it is shared between all commands and threads. Use {@link #MissingInputException()} instead.
+     */
+    @Internal
+    public static @NotNull MissingInputException shared() {
+        return SHARED;
+    }
+
 }
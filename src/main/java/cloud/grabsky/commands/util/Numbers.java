@@ -0,0 +1,164 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Utility class containing allocation-free parsing methods for the most common numeric inputs. Each method returns a sentinel
+ * value when input is not in the supported form, in which case caller should fall back to the regular, slower parsing.
+ */
+@Internal @NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Numbers {
+
+    /**
+     * Returned by {@link #parseLong(String)} when input is not a plain integer with at most {@value #MAX_DIGITS} digits.
+     */
+    public static final long NOT_PARSED = Long.MIN_VALUE;
+
+    // Any number with this many digits fits in a long without overflow.
+    private static final int MAX_DIGITS = 18;
+
+    // Any number with this many digits fits in a long without overflow, after being shifted to make space for the scale.
+    private static final int MAX_DECIMAL_DIGITS = 17;
+
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    /**
+     * Parses input in form of {@code [+-]digits} with at most {@value #MAX_DIGITS} digits. Returns {@link #NOT_PARSED} for any other input.
+     */
+    public static long parseLong(final @NotNull String value) {
+        final int length = value.length();
+        // ...
+        int i = 0;
+        // Consuming the sign...
+        final boolean negative = (length > 0 && value.charAt(0) == '-');
+        // ...
+        if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+'))
+            i++;
+        // Input must contain at least one and at most MAX_DIGITS digits.
+        if (length == i || length - i > MAX_DIGITS)
+            return NOT_PARSED;
+        // ...
+        long result = 0;
+        // ...
+        for (; i < length; i++) {
+            final int digit = value.charAt(i) - '0';
+            // ...
+            if (digit < 0 || digit > 9)
+                return NOT_PARSED;
+            // ...
+            result = result * 10 + digit;
+        }
+        return (negative == true) ? -result : result;
+    }
+
+    /**
+     * Parses input in form of {@code [+-]digits[.digits]} when result can be computed exactly, the same way {@link java.math.BigDecimal#doubleValue()} does.
+     * Returns {@link Double#NaN} for any other input.
+     */
+    public static double parseDouble(final @NotNull String value) {
+        final long decimal = parseDecimal(value);
+        // ...
+        if (decimal == NOT_PARSED)
+            return Double.NaN;
+        // ...
+        final long mantissa = decimal >> 5;
+        final int scale = (int) (decimal & 0x1F);
+        // Result is exact only when both mantissa and power of ten can be represented exactly.
+        if (Math.abs(mantissa) >= 1L << 52 || scale >= DOUBLE_POWERS_OF_TEN.length)
+            return Double.NaN;
+        // ...
+        return (mantissa == 0) ? 0.0D : mantissa / DOUBLE_POWERS_OF_TEN[scale];
+    }
+
+    /**
+     * Parses input in form of {@code [+-]digits[.digits]} when result can be computed exactly, the same way {@link java.math.BigDecimal#floatValue()} does.
+     * Returns {@link Float#NaN} for any other input.
+     */
+    public static float parseFloat(final @NotNull String value) {
+        final long decimal = parseDecimal(value);
+        // ...
+        if (decimal == NOT_PARSED)
+            return Float.NaN;
+        // ...
+        final long mantissa = decimal >> 5;
+        final int scale = (int) (decimal & 0x1F);
+        // Result is exact only when both mantissa and power of ten can be represented exactly.
+        if (Math.abs(mantissa) >= 1L << 22 || scale >= FLOAT_POWERS_OF_TEN.length)
+            return Float.NaN;
+        // ...
+        return (mantissa == 0) ? 0.0F : mantissa / FLOAT_POWERS_OF_TEN[scale];
+    }
+
+    // Parses decimal input into unscaled value and scale, packed as (unscaled << 5 | scale). Returns NOT_PARSED if input is not supported.
+    private static long parseDecimal(final @NotNull String value) {
+        final int length = value.length();
+        // ...
+        int i = 0;
+        // Consuming the sign...
+        final boolean negative = (length > 0 && value.charAt(0) == '-');
+        // ...
+        if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+'))
+            i++;
+        // ...
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+        // ...
+        for (; i < length; i++) {
+            final char ch = value.charAt(i);
+            // Marking start of the fractional part...
+            if (ch == '.' && scale == -1) {
+                scale = 0;
+                continue;
+            }
+            final int digit = ch - '0';
+            // ...
+            if (digit < 0 || digit > 9 || ++digits > MAX_DECIMAL_DIGITS)
+                return NOT_PARSED;
+            // ...
+            unscaled = unscaled * 10 + digit;
+            // ...
+            if (scale != -1)
+                scale++;
+        }
+        // Input must contain at least one digit.
+        if (digits == 0)
+            return NOT_PARSED;
+        // ...
+        return (((negative == true) ? -unscaled : unscaled) << 5) | Math.max(scale, 0);
+    }
+
+}
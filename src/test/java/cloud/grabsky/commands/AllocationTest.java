@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands;
+
+import com.sun.management.ThreadMXBean;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Asserts that steady-state invocation of a command with primitive arguments does not allocate.
+ */
+public final class AllocationTest {
+
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int MEASURED_ITERATIONS = 100_000;
+
+    // Budget of bytes allocated per invocation. Leaves room for occasional allocations made by the JIT or the allocation counter itself.
+    private static final long MAX_BYTES_PER_INVOCATION = 16;
+
+    private ServerMock server;
+    private Plugin plugin;
+
+    @BeforeEach
+    public void setUp() {
+        this.server = MockBukkit.mock();
+        this.plugin = MockBukkit.createMockPlugin();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    public void test_invocation_with_primitive_arguments_does_not_allocate() {
+        final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        // Skipping when allocation counters are not supported by the JVM.
+        if (threads.isThreadAllocatedMemorySupported() == false)
+            return;
+        threads.setThreadAllocatedMemoryEnabled(true);
+        // ...
+        final PrimitivesCommand rCommand = new PrimitivesCommand();
+        new RootCommandManager(plugin).setReusingContexts(true).registerCommand(rCommand);
+        // ...
+        final Command bCommand = server.getCommandMap().getCommand("primitives");
+        assertNotNull(bCommand);
+        // ...
+        final CommandSender sender = server.getConsoleSender();
+        final String[] arguments = { "42", "3.5", "true" };
+        // Warming up, so all classes are loaded and hot paths are compiled.
+        for (int i = 0; i < WARMUP_ITERATIONS; i++)
+            bCommand.execute(sender, "primitives", arguments);
+        // ...
+        final long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++)
+            bCommand.execute(sender, "primitives", arguments);
+        final long after = threads.getCurrentThreadAllocatedBytes();
+        // Making sure arguments were actually parsed.
+        assertEquals(42, rCommand.integer);
+        assertEquals(3.5, rCommand.decimal);
+        assertTrue(rCommand.bool);
+        // ...
+        final long bytesPerInvocation = (after - before) / MEASURED_ITERATIONS;
+        assertTrue(bytesPerInvocation <= MAX_BYTES_PER_INVOCATION, "Expected at most " + MAX_BYTES_PER_INVOCATION + " bytes allocated per invocation, got " + bytesPerInvocation + ".");
+    }
+
+    private static final class PrimitivesCommand extends RootCommand {
+
+        private int integer;
+        private double decimal;
+        private boolean bool;
+
+        public PrimitivesCommand() {
+            super("primitives", null, null, null, null);
+        }
+
+        @Override
+        public void onCommand(final @NotNull RootCommandContext context, final @NotNull ArgumentQueue arguments) {
+            this.integer = arguments.nextInt();
+            this.decimal = arguments.nextDouble();
+            this.bool = arguments.nextBoolean();
+        }
+
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.commands.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Differential test of {@link Numbers} against {@link BigDecimal}, which is used by argument parsers as a fallback.
+ */
+public final class NumbersTest {
+
+    private static final int ITERATIONS = 200_000;
+
+    // Fixed seed, so failures are reproducible.
+    private static final long SEED = 0x5EED_C0DEL;
+
+    private static final char[] NOISE = { '.', '-', '+', 'e', 'E', ' ', 'x', '_' };
+
+    @Test
+    public void test_parse_double_matches_big_decimal() {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        int parsed = 0;
+        // ...
+        for (int i = 0; i < ITERATIONS; i++) {
+            final String value = randomInput(random);
+            final double fast = Numbers.parseDouble(value);
+            // Sentinel value means input should be handled by the fallback.
+            if (Double.isNaN(fast) == true)
+                continue;
+            // ...
+            assertEquals(new BigDecimal(value).doubleValue(), fast, 0.0D, () -> "Input: '" + value + "'");
+            parsed++;
+        }
+        // Making sure the fast path was actually exercised.
+        assertTrue(parsed > ITERATIONS / 4, "Fast path was used for " + parsed + " inputs only.");
+    }
+
+    @Test
+    public void test_parse_float_matches_big_decimal() {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        int parsed = 0;
+        // ...
+        for (int i = 0; i < ITERATIONS; i++) {
+            final String value = randomInput(random);
+            final float fast = Numbers.parseFloat(value);
+            // Sentinel value means input should be handled by the fallback.
+            if (Float.isNaN(fast) == true)
+                continue;
+            // ...
+            assertEquals(new BigDecimal(value).floatValue(), fast, 0.0F, () -> "Input: '" + value + "'");
+            parsed++;
+        }
+        // Making sure the fast path was actually exercised.
+        assertTrue(parsed > ITERATIONS / 10, "Fast path was used for " + parsed + " inputs only.");
+    }
+
+    @Test
+    public void test_parse_long_matches_big_decimal() {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        int parsed = 0;
+        // ...
+        for (int i = 0; i < ITERATIONS; i++) {
+            final String value = randomInput(random);
+            final long fast = Numbers.parseLong(value);
+            // Sentinel value means input should be handled by the fallback.
+            if (fast == Numbers.NOT_PARSED)
+                continue;
+            // ...
+            assertEquals(new BigDecimal(value).longValueExact(), fast, () -> "Input: '" + value + "'");
+            parsed++;
+        }
+        // Making sure the fast path was actually exercised.
+        assertTrue(parsed > ITERATIONS / 10, "Fast path was used for " + parsed + " inputs only.");
+    }
+
+    @Test
+    public void test_unsupported_inputs_are_not_parsed() {
+        for (final String value : new String[] { "", "-", "+", ".", "-.", "1.2.3", "1e3", "0x10", " 1", "1 ", "--1", "1-", "NaN", "Infinity", "1_000" }) {
+            assertTrue(Double.isNaN(Numbers.parseDouble(value)), () -> "Input: '" + value + "'");
+            assertTrue(Float.isNaN(Numbers.parseFloat(value)), () -> "Input: '" + value + "'");
+        }
+        for (final String value : new String[] { "", "-", "+", "1.0", "1e3", "0x10", " 1", "1 ", "--1", "1234567890123456789" })
+            assertEquals(Numbers.NOT_PARSED, Numbers.parseLong(value), () -> "Input: '" + value + "'");
+    }
+
+    // Generates input in form of [+-]digits[.digits], occasionally with a noise character inserted at random position.
+    private static @NotNull String randomInput(final @NotNull SplittableRandom random) {
+        final StringBuilder builder = new StringBuilder();
+        // Appending the sign...
+        switch (random.nextInt(4)) {
+            case 0 -> builder.append('-');
+            case 1 -> builder.append('+');
+        }
+        // Lengths around and past the supported limits are intentionally covered.
+        final int digits = 1 + random.nextInt(20);
+        final int dot = (random.nextBoolean() == true) ? random.nextInt(digits + 1) : -1;
+        // ...
+        for (int i = 0; i < digits; i++) {
+            if (i == dot)
+                builder.append('.');
+            builder.append((char) ('0' + random.nextInt(10)));
+        }
+        // Inserting noise, which should either be rejected by Numbers or handled consistently with BigDecimal.
+        if (random.nextInt(10) == 0)
+            builder.insert(random.nextInt(builder.length() + 1), NOISE[random.nextInt(NOISE.length)]);
+        // ...
+        return builder.toString();
+    }
+
+}